@@ -0,0 +1,48 @@
+package com.jspss.bandbooking.assignment;
+
+import com.jspss.bandbooking.benchmarks.SyntheticData;
+import com.jspss.bandbooking.entities.Band;
+import com.jspss.bandbooking.entities.Musician;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Candidate filtering and matching behind {@code assignMusicians}: one band, all of its members
+ * available.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MusicianAssignmentBenchmark {
+
+    // At least requiredInstruments, since every slot needs its own musician.
+    @Param({"12", "100", "1000"})
+    public int members;
+
+    @Param({"4", "12"})
+    public int requiredInstruments;
+
+    @Param({"30"})
+    public int instruments;
+
+    @Param({"10"})
+    public int styles;
+
+    private Band band;
+    private List<Musician> available;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = SyntheticData.generate(1, members, instruments, styles, requiredInstruments, 0);
+        band = data.bands.get(0);
+        available = new ArrayList<>(band.getBandMembers());
+    }
+
+    @Benchmark
+    public List<Musician> assign() {
+        return MusicianAssignmentSolver.assign(band.getRequiredInstruments(), band.getMusicStyles(), available);
+    }
+}
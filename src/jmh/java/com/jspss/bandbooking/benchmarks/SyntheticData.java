@@ -0,0 +1,109 @@
+package com.jspss.bandbooking.benchmarks;
+
+import com.jspss.bandbooking.entities.*;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic in-memory entity graphs for the benchmarks. Every band requires
+ * {@code requiredPerBand} instruments and plays {@code stylesPerBand} styles, and its members
+ * are built so each required instrument is covered and each member shares a band style.
+ */
+public final class SyntheticData {
+
+    private static final ZonedDateTime FIRST_GIG = ZonedDateTime.of(2026, 1, 1, 20, 0, 0, 0, ZoneOffset.UTC);
+
+    public final List<Instrument> instruments;
+    public final List<MusicStyle> styles;
+    public final List<Musician> musicians;
+    public final List<Band> bands;
+    public final List<Booking> bookings;
+
+    private SyntheticData(List<Instrument> instruments, List<MusicStyle> styles, List<Musician> musicians,
+                          List<Band> bands, List<Booking> bookings) {
+        this.instruments = instruments;
+        this.styles = styles;
+        this.musicians = musicians;
+        this.bands = bands;
+        this.bookings = bookings;
+    }
+
+    public static SyntheticData generate(int bandCount, int membersPerBand, int instrumentCount, int styleCount,
+                                         int requiredPerBand, int bookingCount) {
+        Random random = new Random(42);
+        long ids = 1;
+
+        List<Instrument> instruments = new ArrayList<>(instrumentCount);
+        for(int i = 0; i < instrumentCount; i++) {
+            instruments.add(new Instrument(ids++, "Instrument " + i));
+        }
+        List<MusicStyle> styles = new ArrayList<>(styleCount);
+        for(int i = 0; i < styleCount; i++) {
+            MusicStyle style = new MusicStyle();
+            style.setId(ids++);
+            style.setName("Style " + i);
+            styles.add(style);
+        }
+
+        int required = Math.min(requiredPerBand, instrumentCount);
+        List<Musician> musicians = new ArrayList<>(bandCount * membersPerBand);
+        List<Band> bands = new ArrayList<>(bandCount);
+        for(int b = 0; b < bandCount; b++) {
+            Band band = new Band();
+            band.setId(ids++);
+            band.setBandName("Band " + b);
+            int offset = random.nextInt(instrumentCount);
+            for(int r = 0; r < required; r++) {
+                band.getRequiredInstruments().add(instruments.get((offset + r) % instrumentCount));
+            }
+            List<Instrument> bandInstruments = new ArrayList<>(band.getRequiredInstruments());
+            band.getMusicStyles().add(styles.get(b % styleCount));
+            band.getMusicStyles().add(styles.get(random.nextInt(styleCount)));
+            List<MusicStyle> bandStyles = new ArrayList<>(band.getMusicStyles());
+
+            for(int m = 0; m < membersPerBand; m++) {
+                Musician musician = new Musician();
+                musician.setId(ids++);
+                musician.setFullName("Musician " + b + "-" + m);
+                musician.getInstruments().add(bandInstruments.get(m % bandInstruments.size()));
+                // With fewer members than required instruments, the rest are handed out round-robin.
+                for(int r = m + membersPerBand; r < bandInstruments.size(); r += membersPerBand) {
+                    musician.getInstruments().add(bandInstruments.get(r));
+                }
+                musician.getInstruments().add(instruments.get(random.nextInt(instrumentCount)));
+                musician.getMusicStyles().add(bandStyles.get(m % bandStyles.size()));
+                musician.getMusicStyles().add(styles.get(random.nextInt(styleCount)));
+                band.getBandMembers().add(musician);
+                musicians.add(musician);
+            }
+            bands.add(band);
+        }
+
+        List<Booking> bookings = new ArrayList<>(bookingCount);
+        for(int k = 0; k < bookingCount; k++) {
+            Band band = bands.get(k % bandCount);
+            Client client = new Client();
+            client.setId(ids++);
+            client.setName("Client " + k);
+
+            Booking booking = new Booking();
+            booking.setId(ids++);
+            booking.setBand(band);
+            booking.setClient(client);
+            booking.setCity("Duluth");
+            booking.setState("MN");
+            booking.setGigStarts(FIRST_GIG.plusHours(4L * k));
+            booking.setGigEnds(FIRST_GIG.plusHours(4L * k + 3));
+            booking.setBookingStatus(BookingStatus.Confirmed);
+            booking.setMusicianList(new ArrayList<>(band.getBandMembers()));
+            bookings.add(booking);
+        }
+
+        return new SyntheticData(instruments, styles, musicians, bands, bookings);
+    }
+}
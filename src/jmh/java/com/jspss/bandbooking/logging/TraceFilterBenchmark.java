@@ -0,0 +1,99 @@
+package com.jspss.bandbooking.logging;
+
+import com.jspss.bandbooking.sql.SqlBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.*;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request trace handling of {@link RequestLoggingFilter} against the previous
+ * TraceIdFilter + RequestLoggingFilter pair, reproduced below. Request log lines are left out
+ * on both sides (sample rate 0) and SQL accounting is off, so this measures ID generation and
+ * MDC handling only. Run with several threads ({@code -t 8}) to see the contention on
+ * {@code UUID.randomUUID()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class TraceFilterBenchmark {
+
+    private final RequestLoggingFilter filter = new RequestLoggingFilter(
+            new SqlBudget(new SimpleMeterRegistry(), false, 30, "", false, Duration.ofMillis(200)),
+            Duration.ofSeconds(10), 0.0, "");
+    private final Filter legacyTraceIdFilter = new LegacyTraceIdFilter();
+    private final Filter legacyLoggingFilter = new LegacyLoggingFilter();
+    private final FilterChain endOfChain = (request, response) -> { };
+    private final FilterChain legacyChain = (request, response) -> legacyLoggingFilter.doFilter(request, response, endOfChain);
+
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest tracedRequest;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/bands/1");
+        tracedRequest = new MockHttpServletRequest("GET", "/api/bands/1");
+        tracedRequest.addHeader("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+    }
+
+    // A fresh response per call on every side, so no call can pick up the X-Trace-Id set by the last one.
+
+    @Benchmark
+    public Object legacyPair() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        legacyTraceIdFilter.doFilter(request, response, legacyChain);
+        return response;
+    }
+
+    @Benchmark
+    public Object consolidated() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, endOfChain);
+        return response;
+    }
+
+    @Benchmark
+    public Object consolidatedWithTraceparent() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(tracedRequest, response, endOfChain);
+        return response;
+    }
+
+    static final class LegacyTraceIdFilter implements Filter {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            String traceId = UUID.randomUUID().toString();
+            MDC.put("traceId", traceId);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                MDC.remove(traceId);
+            }
+        }
+    }
+
+    static final class LegacyLoggingFilter implements Filter {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            String traceId = MDC.get("traceId");
+            if(traceId == null) {
+                traceId = UUID.randomUUID().toString();
+                MDC.put("traceId", traceId);
+            }
+            long start = System.currentTimeMillis();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                long duration = System.currentTimeMillis() - start;
+                MDC.remove(traceId);
+            }
+        }
+    }
+}
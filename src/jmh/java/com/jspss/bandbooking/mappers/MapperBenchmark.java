@@ -0,0 +1,51 @@
+package com.jspss.bandbooking.mappers;
+
+import com.jspss.bandbooking.benchmarks.SyntheticData;
+import com.jspss.bandbooking.entities.Band;
+import com.jspss.bandbooking.entities.Booking;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of a page of bookings and of every band, the per-request cost of the
+ * list endpoints once the entities are loaded.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"50"})
+    public int bands;
+
+    @Param({"4", "12"})
+    public int membersPerBand;
+
+    @Param({"100", "1000"})
+    public int bookings;
+
+    private final BookingMapper bookingMapper = new BookingMapper();
+    private final BandMapper bandMapper = new BandMapper();
+    private SyntheticData data;
+
+    @Setup
+    public void setUp() {
+        data = SyntheticData.generate(bands, membersPerBand, 30, 10, 4, bookings);
+    }
+
+    @Benchmark
+    public void bookingToDTO(Blackhole blackhole) {
+        for(Booking booking: data.bookings) {
+            blackhole.consume(bookingMapper.toDTO(booking));
+        }
+    }
+
+    @Benchmark
+    public void bandToDTO(Blackhole blackhole) {
+        for(Band band: data.bands) {
+            blackhole.consume(bandMapper.toDTO(band));
+        }
+    }
+}
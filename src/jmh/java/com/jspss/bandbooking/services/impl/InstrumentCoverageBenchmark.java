@@ -0,0 +1,36 @@
+package com.jspss.bandbooking.services.impl;
+
+import com.jspss.bandbooking.benchmarks.SyntheticData;
+import com.jspss.bandbooking.entities.Band;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The line-up check run on every band update: each required instrument must be played by at
+ * least one member.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class InstrumentCoverageBenchmark {
+
+    @Param({"4", "20", "100"})
+    public int members;
+
+    @Param({"4", "12"})
+    public int requiredInstruments;
+
+    private Band band;
+
+    @Setup
+    public void setUp() {
+        band = SyntheticData.generate(1, members, 30, 10, requiredInstruments, 0).bands.get(0);
+    }
+
+    @Benchmark
+    public Band validateInstrumentCoverage() {
+        BandServiceImpl.validateInstrumentCoverage(band.getRequiredInstruments(), band.getBandMembers());
+        return band;
+    }
+}
@@ -0,0 +1,130 @@
+package com.jspss.bandbooking.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The request mix against {@code /api/bookings} and {@code /api/search}.
+ * <p>
+ * Each band books the free slots after the seeded ones in order, so creates do not collide
+ * with each other; created bookings queue up for the assign operation, which falls back to an
+ * availability check while the queue is empty.
+ */
+final class BookingWorkload {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final DataSeeder.SeededData data;
+    private final Operation[] weighted;
+    private final AtomicInteger[] nextSlot;
+    private final ConcurrentLinkedQueue<Long> pendingBookings = new ConcurrentLinkedQueue<>();
+
+    BookingWorkload(HttpClient http, String baseUrl, DataSeeder.SeededData data, Map<Operation, Integer> mix) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.data = data;
+        this.weighted = mix.entrySet().stream()
+                .flatMap(e -> Stream.generate(e::getKey).limit(e.getValue()))
+                .toArray(Operation[]::new);
+        this.nextSlot = new AtomicInteger[data.bandIds().size()];
+        for(int i = 0; i < nextSlot.length; i++) {
+            nextSlot[i] = new AtomicInteger();
+        }
+    }
+
+    Operation next() {
+        return weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+    }
+
+    /**
+     * @return the HTTP status of the request
+     */
+    int run(Operation op) throws IOException, InterruptedException {
+        return switch (op) {
+            case Create -> create();
+            case Assign -> assign();
+            case Availability -> checkAvailability();
+            case Search -> search();
+        };
+    }
+
+    private int create() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int band = random.nextInt(data.bandIds().size());
+        Instant start = data.firstFreeSlot().plus(DataSeeder.SLOT.multipliedBy(nextSlot[band].getAndIncrement()));
+        String body = """
+                {"clientId": %d, "bandId": %d, "start": "%s", "end": "%s", "city": "Duluth", "state": "MN"}
+                """.formatted(pick(data.clientIds()), data.bandIds().get(band), start, start.plus(DataSeeder.GIG_LENGTH));
+
+        HttpResponse<String> response = send(post("/api/bookings", body));
+        if(response.statusCode() / 100 == 2) {
+            Matcher matcher = ID.matcher(response.body());
+            if(matcher.find()) {
+                pendingBookings.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return response.statusCode();
+    }
+
+    private int assign() throws IOException, InterruptedException {
+        Long bookingId = pendingBookings.poll();
+        if(bookingId == null) {
+            return checkAvailability();
+        }
+        return send(post("/api/bookings/" + bookingId + "/assign", "")).statusCode();
+    }
+
+    private int checkAvailability() throws IOException, InterruptedException {
+        // Half of the checks land on seeded slots, the other half on free ones.
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Instant start = data.firstFreeSlot().minus(DataSeeder.SLOT.multipliedBy(random.nextInt(1, 200)))
+                .plus(Duration.ofHours(random.nextInt(0, 4)));
+        String body = """
+                {"bandId": %d, "start": "%s", "end": "%s"}
+                """.formatted(pick(data.bandIds()), start, start.plus(Duration.ofHours(2)));
+        return send(post("/api/bookings/check-availability", body)).statusCode();
+    }
+
+    private int search() throws IOException, InterruptedException {
+        String name = pick(data.names());
+        String[] words = name.split(" ");
+        String query = words[ThreadLocalRandom.current().nextInt(words.length)];
+        if(query.length() < 3) {
+            query = name;
+        }
+        URI uri = URI.create(baseUrl + "/api/search?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8));
+        return send(HttpRequest.newBuilder(uri).GET().build()).statusCode();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.jspss.bandbooking.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds the schema with plain JDBC before the application starts, so the in-memory indexes
+ * warm up from the seeded data. Rows take their ids from the sequence defaults, which keeps
+ * them clear of the blocks Hibernate allocates later.
+ * <p>
+ * Every band member plays one of the band's required instruments and one of its styles, so
+ * every band can be assigned. Seeded bookings sit in fixed {@link #SLOT} slots per band, a
+ * third of them in the past; the workload books the slots after the last seeded one.
+ */
+final class DataSeeder {
+
+    static final Duration SLOT = Duration.ofHours(6);
+    static final Duration GIG_LENGTH = Duration.ofHours(3);
+
+    private static final String[] WORDS = {
+            "Blue", "Velvet", "Midnight", "River", "Electric", "Hollow", "Golden", "Static",
+            "Northern", "Paper", "Silver", "Wild", "Crimson", "Lonely", "Iron", "Neon"
+    };
+
+    private final JdbcTemplate jdbc;
+    private final LoadTestSettings settings;
+    private final Random random = new Random(7);
+
+    DataSeeder(JdbcTemplate jdbc, LoadTestSettings settings) {
+        this.jdbc = jdbc;
+        this.settings = settings;
+    }
+
+    SeededData seed() {
+        List<Long> instruments = new ArrayList<>();
+        for(int i = 0; i < settings.instruments(); i++) {
+            instruments.add(insert("INSERT INTO instrument (name) VALUES (?) RETURNING id", "Instrument " + i));
+        }
+        List<Long> styles = new ArrayList<>();
+        for(int i = 0; i < settings.styles(); i++) {
+            styles.add(insert("INSERT INTO music_style (name) VALUES (?) RETURNING id", "Style " + i));
+        }
+
+        List<Long> bands = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Object[]> bandStyles = new ArrayList<>();
+        List<Object[]> bandInstruments = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> musicianInstruments = new ArrayList<>();
+        List<Object[]> musicianStyles = new ArrayList<>();
+
+        int required = Math.min(settings.requiredPerBand(), instruments.size());
+        for(int b = 0; b < settings.bands(); b++) {
+            String name = word() + " " + word() + " " + b;
+            long bandId = insert("INSERT INTO band (band_name) VALUES (?) RETURNING id", name);
+            bands.add(bandId);
+            names.add(name);
+
+            long style = styles.get(b % styles.size());
+            bandStyles.add(new Object[]{bandId, style});
+            int offset = random.nextInt(instruments.size());
+            List<Long> requiredIds = new ArrayList<>();
+            for(int r = 0; r < required; r++) {
+                long instrument = instruments.get((offset + r) % instruments.size());
+                requiredIds.add(instrument);
+                bandInstruments.add(new Object[]{bandId, instrument});
+            }
+
+            for(int m = 0; m < Math.max(settings.membersPerBand(), required); m++) {
+                String fullName = word() + " " + word() + "son " + b + "-" + m;
+                long musicianId = insert("""
+                        INSERT INTO musician (full_name, phone_number, email, state, city)
+                        VALUES (?, '555-0100', ?, 'MN', 'Duluth') RETURNING id
+                        """, fullName, "musician" + b + "-" + m + "@example.com");
+                names.add(fullName);
+                members.add(new Object[]{bandId, musicianId});
+                musicianInstruments.add(new Object[]{musicianId, requiredIds.get(m % required)});
+                musicianStyles.add(new Object[]{musicianId, style});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO band_style (band_id, musicstyle_id) VALUES (?, ?)", bandStyles);
+        jdbc.batchUpdate("INSERT INTO band_required_instruments (band_id, instrument_id) VALUES (?, ?)", bandInstruments);
+        jdbc.batchUpdate("INSERT INTO band_members (band_id, musician_id) VALUES (?, ?)", members);
+        jdbc.batchUpdate("INSERT INTO musician_instrument (musician_id, instrument_id) VALUES (?, ?)", musicianInstruments);
+        jdbc.batchUpdate("INSERT INTO musician_style (musician_id, style_id) VALUES (?, ?)", musicianStyles);
+
+        List<Long> clients = new ArrayList<>();
+        for(int c = 0; c < settings.clients(); c++) {
+            clients.add(insert("""
+                    INSERT INTO client (name, phone_number, email) VALUES (?, '555-0100', ?) RETURNING id
+                    """, word() + " " + word() + " " + c, "client" + c + "@example.com"));
+        }
+
+        int slotsPerBand = (settings.bookings() + bands.size() - 1) / bands.size();
+        Instant firstSlot = Instant.now().truncatedTo(ChronoUnit.DAYS).minus(SLOT.multipliedBy(slotsPerBand / 3));
+        List<Object[]> bookings = new ArrayList<>();
+        for(int k = 0; k < settings.bookings(); k++) {
+            int slot = k / bands.size();
+            Instant start = firstSlot.plus(SLOT.multipliedBy(slot));
+            String status = switch (k % 10) {
+                case 0, 1 -> "Cancelled";
+                case 2, 3, 4 -> "Pending";
+                default -> start.isBefore(Instant.now()) ? "Completed" : "Confirmed";
+            };
+            bookings.add(new Object[]{
+                    bands.get(k % bands.size()),
+                    clients.get(random.nextInt(clients.size())),
+                    start.atOffset(ZoneOffset.UTC),
+                    start.plus(GIG_LENGTH).atOffset(ZoneOffset.UTC),
+                    status
+            });
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO booking (band_id, client_id, state, city, gig_starts, gig_ends, booking_status)
+                VALUES (?, ?, 'MN', 'Duluth', ?, ?, ?)
+                """, bookings);
+        jdbc.execute("ANALYZE");
+
+        return new SeededData(bands, clients, names, firstSlot.plus(SLOT.multipliedBy(slotsPerBand + 1)));
+    }
+
+    private long insert(String sql, Object... args) {
+        return jdbc.queryForObject(sql, Long.class, args);
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    /**
+     * @param names band and musician names, used to build search terms
+     * @param firstFreeSlot start of the first slot no seeded booking uses, for every band
+     */
+    record SeededData(List<Long> bandIds, List<Long> clientIds, List<String> names, Instant firstFreeSlot) {
+    }
+}
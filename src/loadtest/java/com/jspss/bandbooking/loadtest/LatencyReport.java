@@ -0,0 +1,91 @@
+package com.jspss.bandbooking.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms and status counts.
+ * <p>
+ * Latency is measured from the moment a request was scheduled to start, not from when it was
+ * actually sent, so time spent queued behind a slow server shows up in the percentiles instead
+ * of being hidden by the generator backing off (coordinated omission).
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Integer, LongAdder>> statuses = new EnumMap<>(Operation.class);
+    private final Histogram all = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+    LatencyReport() {
+        for(Operation op: Operation.values()) {
+            histograms.put(op, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            statuses.put(op, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * @param status HTTP status, or 0 when the request failed without a response
+     */
+    void record(Operation op, long intendedStartNanos, long endNanos, int status) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(op).recordValue(micros);
+        all.recordValue(micros);
+        statuses.get(op).computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    void write(LoadTestSettings settings, Duration measured, long lateStarts, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        try(PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("summary.txt")))) {
+            summary(out, settings, measured, lateStarts);
+        }
+        summary(System.out, settings, measured, lateStarts);
+
+        for(Operation op: Operation.values()) {
+            if(histograms.get(op).getTotalCount() == 0) {
+                continue;
+            }
+            try(PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(op.key() + ".hgrm")))) {
+                histograms.get(op).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private void summary(PrintStream out, LoadTestSettings settings, Duration measured, long lateStarts) {
+        out.printf("Target rate %.1f req/s, measured %ds after %ds warm-up, mix %s%n",
+                settings.rate(), measured.toSeconds(), settings.warmup().toSeconds(), settings.mix());
+        out.printf("Achieved %.1f req/s, %d requests started late by more than 10ms%n%n",
+                all.getTotalCount() / (double) Math.max(1, measured.toSeconds()), lateStarts);
+        out.printf("%-13s %8s %9s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "p99.99", "max ms", "statuses");
+        for(Operation op: Operation.values()) {
+            line(out, op.key(), histograms.get(op), statuses.get(op).toString());
+        }
+        line(out, "all", all, "");
+        out.println();
+    }
+
+    private void line(PrintStream out, String name, Histogram h, String statuses) {
+        if(h.getTotalCount() == 0) {
+            return;
+        }
+        out.printf("%-13s %8d", name, h.getTotalCount());
+        for(double p: PERCENTILES) {
+            out.printf(" %9.2f", h.getValueAtPercentile(p) / 1000.0);
+        }
+        out.printf(" %9.2f  %s%n", h.getMaxValue() / 1000.0, statuses);
+    }
+}
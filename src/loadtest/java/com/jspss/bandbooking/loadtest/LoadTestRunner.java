@@ -0,0 +1,126 @@
+package com.jspss.bandbooking.loadtest;
+
+import com.jspss.bandbooking.BandBookingApplication;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test of the booking flows.
+ * <p>
+ * Migrates and seeds a PostgreSQL database (the one given by {@code jdbc-url}, or a throwaway
+ * container), starts the application on a random port against it, then sends the configured
+ * operation mix at a fixed rate: an open model, where request {@code i} is due at
+ * {@code start + i / rate} whether or not earlier requests have completed. Each request runs on
+ * its own virtual thread. After the warm-up, latencies are recorded from the due time and a
+ * summary plus one HdrHistogram percentile file per operation are written to {@code report-dir}.
+ * <p>
+ * Run with {@code ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="rate=200 duration=120s"}.
+ */
+public final class LoadTestRunner {
+
+    private static final long LATE_START_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+
+        PostgreSQLContainer container = null;
+        String url = settings.jdbcUrl();
+        String username = settings.username();
+        String password = settings.password();
+        if(url.isBlank()) {
+            container = new PostgreSQLContainer("postgres:16-alpine");
+            container.start();
+            url = container.getJdbcUrl();
+            username = container.getUsername();
+            password = container.getPassword();
+        }
+
+        try {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(url, username, password);
+            Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("0").load().migrate();
+            System.out.println("Seeding data...");
+            DataSeeder.SeededData data = new DataSeeder(new JdbcTemplate(dataSource), settings).seed();
+
+            try(ConfigurableApplicationContext app = new SpringApplicationBuilder(BandBookingApplication.class).run(
+                    "--server.port=0",
+                    "--management.server.port=0",
+                    "--spring.datasource.url=" + url,
+                    "--spring.datasource.username=" + username,
+                    "--spring.datasource.password=" + password,
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                    "--logging.level.com.jspss.bandbooking=WARN")) {
+                int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                drive(settings, new BookingWorkload(
+                        HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build(),
+                        "http://localhost:" + port,
+                        data,
+                        settings.mix()
+                ));
+            }
+        } finally {
+            if(container != null) {
+                container.stop();
+            }
+        }
+    }
+
+    private static void drive(LoadTestSettings settings, BookingWorkload workload) throws Exception {
+        LatencyReport report = new LatencyReport();
+        AtomicLong lateStarts = new AtomicLong();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        System.out.printf("Running %.1f req/s for %ds (warm-up %ds)...%n",
+                settings.rate(), settings.duration().toSeconds(), settings.warmup().toSeconds());
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for(long i = 0; ; i++) {
+                long due = start + i * intervalNanos;
+                if(due >= end) {
+                    break;
+                }
+                long wait;
+                while((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation op = workload.next();
+                boolean measured = due >= measureFrom;
+                executor.execute(() -> {
+                    if(measured && System.nanoTime() - due > LATE_START_NANOS) {
+                        lateStarts.incrementAndGet();
+                    }
+                    int status;
+                    try {
+                        status = workload.run(op);
+                    } catch (Exception ex) {
+                        status = 0;
+                    }
+                    if(measured) {
+                        report.record(op, due, System.nanoTime(), status);
+                    }
+                });
+            }
+        }
+
+        report.write(settings, settings.duration(), lateStarts.get(), settings.reportDir());
+    }
+}
@@ -0,0 +1,102 @@
+package com.jspss.bandbooking.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test options, given as {@code key=value} program arguments. Unknown keys fail fast so a
+ * typo does not silently run the defaults.
+ *
+ * @param jdbcUrl PostgreSQL to run against; when blank a throwaway container is started
+ * @param rate requests per second across all operations
+ * @param mix relative weight of each operation
+ */
+record LoadTestSettings(
+        String jdbcUrl,
+        String username,
+        String password,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int instruments,
+        int styles,
+        int bands,
+        int membersPerBand,
+        int requiredPerBand,
+        int clients,
+        int bookings,
+        Path reportDir
+) {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("jdbc-url", "");
+        DEFAULTS.put("username", "bandbooking");
+        DEFAULTS.put("password", "bandbooking");
+        DEFAULTS.put("rate", "100");
+        DEFAULTS.put("warmup", "15s");
+        DEFAULTS.put("duration", "60s");
+        DEFAULTS.put("mix", "create=20,assign=10,availability=50,search=20");
+        DEFAULTS.put("instruments", "30");
+        DEFAULTS.put("styles", "15");
+        DEFAULTS.put("bands", "200");
+        DEFAULTS.put("members-per-band", "8");
+        DEFAULTS.put("required-per-band", "4");
+        DEFAULTS.put("clients", "1000");
+        DEFAULTS.put("bookings", "20000");
+        DEFAULTS.put("report-dir", "target/loadtest");
+    }
+
+    static LoadTestSettings parse(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for(String arg: args) {
+            int eq = arg.indexOf('=');
+            String key = eq < 0 ? arg : arg.substring(0, eq);
+            if(eq < 0 || !DEFAULTS.containsKey(key)) {
+                throw new IllegalArgumentException("Unknown load test option: " + arg + ". Options: " + DEFAULTS);
+            }
+            values.put(key, arg.substring(eq + 1));
+        }
+
+        return new LoadTestSettings(
+                values.get("jdbc-url"),
+                values.get("username"),
+                values.get("password"),
+                Double.parseDouble(values.get("rate")),
+                duration(values.get("warmup")),
+                duration(values.get("duration")),
+                mix(values.get("mix")),
+                Integer.parseInt(values.get("instruments")),
+                Integer.parseInt(values.get("styles")),
+                Integer.parseInt(values.get("bands")),
+                Integer.parseInt(values.get("members-per-band")),
+                Integer.parseInt(values.get("required-per-band")),
+                Integer.parseInt(values.get("clients")),
+                Integer.parseInt(values.get("bookings")),
+                Path.of(values.get("report-dir"))
+        );
+    }
+
+    // Accepts the same short form as the application properties: 500ms, 15s, 2m.
+    private static Duration duration(String value) {
+        String v = value.trim().toLowerCase();
+        if(v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if(v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        if(v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        return Duration.parse(value);
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for(String part: value.split(",")) {
+            String[] kv = part.trim().split("=");
+            mix.put(Operation.fromKey(kv[0].trim()), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jspss.bandbooking.loadtest;
+
+import java.util.Arrays;
+
+enum Operation {
+    Create("create"),
+    Assign("assign"),
+    Availability("availability"),
+    Search("search");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(op -> op.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation in mix: " + key));
+    }
+}
@@ -0,0 +1,182 @@
+package com.jspss.bandbooking.assignment;
+
+import com.jspss.bandbooking.entities.Instrument;
+import com.jspss.bandbooking.entities.MusicStyle;
+import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.exceptions.BadRequestException;
+
+import java.util.*;
+
+/**
+ * Assigns one musician to every required instrument of a band.
+ * <p>
+ * Instruments and styles are mapped to dense indexes so each candidate is reduced to two
+ * {@link BitSet}s, then the instrument-to-musician problem is solved as a weighted bipartite
+ * matching (Hungarian algorithm). The result fills every instrument whenever that is possible
+ * and, among those assignments, maximises the total style overlap with the band. Ties go to
+ * the candidate listed first, as the previous greedy assignment did.
+ */
+public final class MusicianAssignmentSolver {
+
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    private MusicianAssignmentSolver() {
+    }
+
+    public static List<Musician> assign(Collection<Instrument> required,
+                                        Collection<MusicStyle> bandStyles,
+                                        List<Musician> available) {
+        List<Instrument> requiredInstruments = new ArrayList<>(required);
+        Map<Instrument, Integer> instrumentIndex = new HashMap<>();
+        int[] slotInstrument = new int[requiredInstruments.size()];
+        for(int s = 0; s < slotInstrument.length; s++) {
+            slotInstrument[s] = instrumentIndex.computeIfAbsent(requiredInstruments.get(s), i -> instrumentIndex.size());
+        }
+
+        Map<MusicStyle, Integer> styleIndex = new HashMap<>();
+        for(MusicStyle style: bandStyles) {
+            styleIndex.computeIfAbsent(style, st -> styleIndex.size());
+        }
+
+        List<Musician> candidates = new ArrayList<>();
+        List<BitSet> plays = new ArrayList<>();
+        List<Integer> overlaps = new ArrayList<>();
+
+        for(Musician musician: available) {
+            BitSet styles = new BitSet(styleIndex.size());
+            for(MusicStyle style: musician.getMusicStyles()) {
+                Integer idx = styleIndex.get(style);
+                if(idx != null) styles.set(idx);
+            }
+            if(styles.isEmpty()) continue;
+
+            BitSet instruments = new BitSet(instrumentIndex.size());
+            for(Instrument instrument: musician.getInstruments()) {
+                Integer idx = instrumentIndex.get(instrument);
+                if(idx != null) instruments.set(idx);
+            }
+            if(instruments.isEmpty()) continue;
+
+            candidates.add(musician);
+            plays.add(instruments);
+            overlaps.add(styles.cardinality());
+        }
+
+        BitSet coverable = new BitSet(instrumentIndex.size());
+        plays.forEach(coverable::or);
+        for(int s = 0; s < slotInstrument.length; s++) {
+            if(!coverable.get(slotInstrument[s])) {
+                throw new BadRequestException("No musician for required instrument: " + requiredInstruments.get(s).getName());
+            }
+        }
+
+        int[] chosen = solve(
+                slotInstrument,
+                plays.toArray(new BitSet[0]),
+                overlaps.stream().mapToInt(Integer::intValue).toArray()
+        );
+
+        List<Musician> assigned = new ArrayList<>(chosen.length);
+        for(int s = 0; s < chosen.length; s++) {
+            if(chosen[s] < 0) {
+                throw new BadRequestException("No musician for required instrument: " + requiredInstruments.get(s).getName());
+            }
+            assigned.add(candidates.get(chosen[s]));
+        }
+        return assigned;
+    }
+
+    /**
+     * @param slotInstrument instrument index required by each slot
+     * @param plays instrument indexes each candidate can cover
+     * @param weights style overlap of each candidate
+     * @return candidate index per slot, or -1 for slots that cannot be filled
+     */
+    static int[] solve(int[] slotInstrument, BitSet[] plays, int[] weights) {
+        int n = slotInstrument.length;
+        int m = Math.max(plays.length, n);
+
+        int maxWeight = 0;
+        for(int w: weights) maxWeight = Math.max(maxWeight, w);
+
+        // One unit of overlap outweighs every tie-break penalty, and one missing slot
+        // outweighs any overlap, so the minimum-cost assignment fills the most slots first.
+        long tieScale = (long) n * m + 1;
+        long missing = (long) n * (maxWeight + 1) * tieScale + 1;
+
+        long[][] cost = new long[n][m];
+        for(int s = 0; s < n; s++) {
+            for(int c = 0; c < m; c++) {
+                boolean feasible = c < plays.length && plays[c].get(slotInstrument[s]);
+                cost[s][c] = feasible ? -(weights[c] * tieScale) + c : missing;
+            }
+        }
+
+        int[] columnOwner = hungarian(cost, n, m);
+
+        int[] chosen = new int[n];
+        Arrays.fill(chosen, -1);
+        for(int c = 0; c < m; c++) {
+            int s = columnOwner[c];
+            if(s >= 0 && cost[s][c] != missing) {
+                chosen[s] = c;
+            }
+        }
+        return chosen;
+    }
+
+    private static int[] hungarian(long[][] cost, int n, int m) {
+        long[] u = new long[n + 1];
+        long[] v = new long[m + 1];
+        int[] p = new int[m + 1];
+        int[] way = new int[m + 1];
+
+        for(int i = 1; i <= n; i++) {
+            p[0] = i;
+            int j0 = 0;
+            long[] minv = new long[m + 1];
+            boolean[] used = new boolean[m + 1];
+            Arrays.fill(minv, INF);
+
+            do {
+                used[j0] = true;
+                int i0 = p[j0];
+                int j1 = 0;
+                long delta = INF;
+                for(int j = 1; j <= m; j++) {
+                    if(used[j]) continue;
+                    long cur = cost[i0 - 1][j - 1] - u[i0] - v[j];
+                    if(cur < minv[j]) {
+                        minv[j] = cur;
+                        way[j] = j0;
+                    }
+                    if(minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+                for(int j = 0; j <= m; j++) {
+                    if(used[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while(p[j0] != 0);
+
+            do {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while(j0 != 0);
+        }
+
+        int[] owner = new int[m];
+        for(int j = 1; j <= m; j++) {
+            owner[j - 1] = p[j] - 1;
+        }
+        return owner;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jspss.bandbooking.assignment;
+
+import java.time.ZonedDateTime;
+
+public record MusicianBusyWindow(
+        Long musicianId,
+        ZonedDateTime start,
+        ZonedDateTime end
+) {
+}
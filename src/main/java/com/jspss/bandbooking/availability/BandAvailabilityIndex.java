@@ -0,0 +1,269 @@
+package com.jspss.bandbooking.availability;
+
+import com.jspss.bandbooking.entities.Booking;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+import com.jspss.bandbooking.repositories.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the non-cancelled gig windows of every band, used to answer
+ * availability checks without a database round trip.
+ * <p>
+ * Each band holds an immutable schedule of windows sorted by start time together with
+ * a running maximum of end times, so an overlap test is a single binary search. Updates
+ * replace the band's schedule copy-on-write, which keeps lookups lock-free. Until the
+ * index has been warmed at startup (or when it is disabled) callers fall back to the
+ * {@link BookingRepository#findConflictBookings} query.
+ */
+@Slf4j
+@Component
+public class BandAvailabilityIndex {
+
+    private final BookingRepository bookingRepository;
+    private final boolean enabled;
+    private final boolean consistencyCheck;
+
+    private final Map<Long, BandSchedule> schedules = new ConcurrentHashMap<>();
+    private final Set<Long> removedDuringWarmUp = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public BandAvailabilityIndex(BookingRepository bookingRepository,
+                                 @Value("${bandbooking.availability.index.enabled:true}") boolean enabled,
+                                 @Value("${bandbooking.availability.index.consistency-check:false}") boolean consistencyCheck) {
+        this.bookingRepository = bookingRepository;
+        this.enabled = enabled;
+        this.consistencyCheck = consistencyCheck;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if(!enabled) {
+            log.info("Band availability index disabled, availability checks will use the database.");
+            return;
+        }
+        load(bookingRepository.findActiveBookingWindows());
+    }
+
+    /**
+     * Loads a snapshot of booking windows. Changes recorded while the snapshot was being
+     * read are kept, so bookings created or cancelled during warm-up are not lost.
+     */
+    public void load(List<BookingWindow> windows) {
+        Map<Long, List<BookingWindow>> byBand = new HashMap<>();
+        for(BookingWindow window: windows) {
+            if(window.bandId() == null || removedDuringWarmUp.contains(window.bookingId())) {
+                continue;
+            }
+            byBand.computeIfAbsent(window.bandId(), id -> new ArrayList<>()).add(window);
+        }
+
+        byBand.forEach((bandId, bandWindows) -> schedules.merge(
+                bandId,
+                BandSchedule.of(bandWindows),
+                (recorded, loaded) -> loaded.union(recorded)
+        ));
+
+        removedDuringWarmUp.clear();
+        ready = true;
+
+        log.info("Band availability index warmed. bands={}, bookings={}", byBand.size(), windows.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isConsistencyCheck() {
+        return consistencyCheck;
+    }
+
+    public boolean isAvailable(Long bandId, ZonedDateTime start, ZonedDateTime end) {
+        BandSchedule schedule = schedules.get(bandId);
+        return schedule == null || !schedule.overlaps(toEpochMicros(start), toEpochMicros(end));
+    }
+
+    /**
+     * Brings the index in line with the current state of a booking once the surrounding
+     * transaction commits: cancelled bookings are removed, everything else is (re)inserted.
+     */
+    public void record(Booking booking) {
+        if(!enabled || booking.getId() == null || booking.getBand() == null || booking.getBand().getId() == null) {
+            return;
+        }
+
+        Long bookingId = booking.getId();
+        Long bandId = booking.getBand().getId();
+
+        if(booking.getBookingStatus() == BookingStatus.Cancelled) {
+            afterCommit(() -> remove(bandId, bookingId));
+            return;
+        }
+
+        if(booking.getGigStarts() == null || booking.getGigEnds() == null) {
+            return;
+        }
+
+        long start = toEpochMicros(booking.getGigStarts());
+        long end = toEpochMicros(booking.getGigEnds());
+        afterCommit(() -> {
+            removedDuringWarmUp.remove(bookingId);
+            schedules.compute(bandId, (id, schedule) ->
+                    (schedule == null ? BandSchedule.EMPTY : schedule).with(bookingId, start, end));
+        });
+    }
+
+    public void evictBand(Long bandId) {
+        afterCommit(() -> schedules.remove(bandId));
+    }
+
+    int size(Long bandId) {
+        BandSchedule schedule = schedules.get(bandId);
+        return schedule == null ? 0 : schedule.ids.length;
+    }
+
+    private void remove(Long bandId, Long bookingId) {
+        if(!ready) {
+            removedDuringWarmUp.add(bookingId);
+        }
+        schedules.computeIfPresent(bandId, (id, schedule) -> {
+            BandSchedule updated = schedule.without(bookingId);
+            return updated.ids.length == 0 ? null : updated;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long toEpochMicros(ZonedDateTime time) {
+        Instant instant = time.toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    /**
+     * Immutable, start-sorted windows of one band. {@code maxEnds[i]} is the latest end
+     * among windows {@code 0..i}, which lets overlap checks stop at one binary search.
+     */
+    static final class BandSchedule {
+
+        static final BandSchedule EMPTY = new BandSchedule(new long[0], new long[0], new long[0]);
+
+        private final long[] ids;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+
+        private BandSchedule(long[] ids, long[] starts, long[] ends) {
+            this.ids = ids;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnds = new long[ends.length];
+            long max = Long.MIN_VALUE;
+            for(int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+
+        static BandSchedule of(List<BookingWindow> windows) {
+            List<BookingWindow> sorted = new ArrayList<>(windows);
+            sorted.sort(Comparator.comparing(w -> w.start().toInstant()));
+
+            long[] ids = new long[sorted.size()];
+            long[] starts = new long[sorted.size()];
+            long[] ends = new long[sorted.size()];
+            for(int i = 0; i < sorted.size(); i++) {
+                BookingWindow window = sorted.get(i);
+                ids[i] = window.bookingId();
+                starts[i] = toEpochMicros(window.start());
+                ends[i] = toEpochMicros(window.end());
+            }
+            return new BandSchedule(ids, starts, ends);
+        }
+
+        /**
+         * Same inclusive semantics as the JPQL conflict query:
+         * {@code gigStarts <= end AND gigEnds >= start}.
+         */
+        boolean overlaps(long start, long end) {
+            int last = upperBound(starts, end) - 1;
+            return last >= 0 && maxEnds[last] >= start;
+        }
+
+        BandSchedule with(long id, long start, long end) {
+            BandSchedule base = without(id);
+            int pos = upperBound(base.starts, start);
+            return new BandSchedule(
+                    insert(base.ids, pos, id),
+                    insert(base.starts, pos, start),
+                    insert(base.ends, pos, end)
+            );
+        }
+
+        BandSchedule without(long id) {
+            for(int i = 0; i < ids.length; i++) {
+                if(ids[i] == id) {
+                    return new BandSchedule(delete(ids, i), delete(starts, i), delete(ends, i));
+                }
+            }
+            return this;
+        }
+
+        BandSchedule union(BandSchedule other) {
+            BandSchedule merged = this;
+            for(int i = 0; i < other.ids.length; i++) {
+                merged = merged.with(other.ids[i], other.starts[i], other.ends[i]);
+            }
+            return merged;
+        }
+
+        private static int upperBound(long[] values, long key) {
+            int low = 0;
+            int high = values.length;
+            while(low < high) {
+                int mid = (low + high) >>> 1;
+                if(values[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static long[] insert(long[] values, int pos, long value) {
+            long[] result = new long[values.length + 1];
+            System.arraycopy(values, 0, result, 0, pos);
+            result[pos] = value;
+            System.arraycopy(values, pos, result, pos + 1, values.length - pos);
+            return result;
+        }
+
+        private static long[] delete(long[] values, int pos) {
+            long[] result = new long[values.length - 1];
+            System.arraycopy(values, 0, result, 0, pos);
+            System.arraycopy(values, pos + 1, result, pos, values.length - pos - 1);
+            return result;
+        }
+    }
+}
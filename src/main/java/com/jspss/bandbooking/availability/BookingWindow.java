@@ -0,0 +1,11 @@
+package com.jspss.bandbooking.availability;
+
+import java.time.ZonedDateTime;
+
+public record BookingWindow(
+        Long bookingId,
+        Long bandId,
+        ZonedDateTime start,
+        ZonedDateTime end
+) {
+}
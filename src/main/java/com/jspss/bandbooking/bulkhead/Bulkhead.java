@@ -0,0 +1,16 @@
+package com.jspss.bandbooking.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated handler inside the given {@link BulkheadLane}. Handlers without it are
+ * not limited.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    BulkheadLane value();
+}
@@ -0,0 +1,44 @@
+package com.jspss.bandbooking.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Holds a permit of the handler's {@link Bulkhead} lane for the whole request. The permit is
+ * taken before the service opens its transaction, so queued requests do not hold connections.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String LANE_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".lane";
+
+    private final BulkheadRegistry bulkheads;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if(!(handler instanceof HandlerMethod method) || request.getAttribute(LANE_ATTRIBUTE) != null) {
+            return true;
+        }
+        Bulkhead bulkhead = method.getMethodAnnotation(Bulkhead.class);
+        if(bulkhead == null) {
+            return true;
+        }
+
+        bulkheads.acquire(bulkhead.value());
+        request.setAttribute(LANE_ATTRIBUTE, bulkhead.value());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if(request.getAttribute(LANE_ATTRIBUTE) instanceof BulkheadLane lane) {
+            request.removeAttribute(LANE_ATTRIBUTE);
+            bulkheads.release(lane);
+        }
+    }
+}
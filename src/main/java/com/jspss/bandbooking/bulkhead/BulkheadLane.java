@@ -0,0 +1,16 @@
+package com.jspss.bandbooking.bulkhead;
+
+/**
+ * Classes of endpoints that get their own share of database connections, so a burst in one
+ * class cannot starve the others.
+ */
+public enum BulkheadLane {
+    /** Musician assignment, single and bulk. Long transactions that lock bookings. */
+    Assignment,
+    /** Fuzzy search, suggestions and batch availability. Expensive reads. */
+    Search,
+    /** Single-entity and paged reads. Cheap, latency sensitive. */
+    Read,
+    /** Streaming exports. Hold a connection for as long as the client takes to download. */
+    Export
+}
@@ -0,0 +1,154 @@
+package com.jspss.bandbooking.bulkhead;
+
+import com.jspss.bandbooking.exceptions.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * One fair semaphore per {@link BulkheadLane}.
+ * <p>
+ * A caller waits up to the lane's {@code max-wait} for a permit and is rejected with
+ * {@link BulkheadFullException} (503) after that. The lane sizes add up to less than the
+ * connection pool size, so a saturated lane queues in front of its own permits instead of
+ * holding connections the other lanes need; writes are not bulkheaded and use what is left.
+ * Per lane, the number of waiting and active callers is published as gauges, the time spent
+ * waiting as a histogram and rejections as a counter.
+ */
+@Slf4j
+@Component
+public class BulkheadRegistry {
+
+    private final boolean enabled;
+    private final Duration retryAfter;
+    private final Map<BulkheadLane, Lane> lanes = new EnumMap<>(BulkheadLane.class);
+
+    public BulkheadRegistry(MeterRegistry meterRegistry,
+                            @Value("${bandbooking.bulkhead.enabled:true}") boolean enabled,
+                            @Value("${bandbooking.bulkhead.retry-after:1s}") Duration retryAfter,
+                            @Value("${bandbooking.bulkhead.assignment.max-concurrent:2}") int assignmentConcurrent,
+                            @Value("${bandbooking.bulkhead.assignment.max-wait:1s}") Duration assignmentWait,
+                            @Value("${bandbooking.bulkhead.search.max-concurrent:2}") int searchConcurrent,
+                            @Value("${bandbooking.bulkhead.search.max-wait:500ms}") Duration searchWait,
+                            @Value("${bandbooking.bulkhead.read.max-concurrent:4}") int readConcurrent,
+                            @Value("${bandbooking.bulkhead.read.max-wait:200ms}") Duration readWait,
+                            @Value("${bandbooking.bulkhead.export.max-concurrent:1}") int exportConcurrent,
+                            @Value("${bandbooking.bulkhead.export.max-wait:0s}") Duration exportWait) {
+        this.enabled = enabled;
+        this.retryAfter = retryAfter;
+        lanes.put(BulkheadLane.Assignment, new Lane(BulkheadLane.Assignment, assignmentConcurrent, assignmentWait, meterRegistry));
+        lanes.put(BulkheadLane.Search, new Lane(BulkheadLane.Search, searchConcurrent, searchWait, meterRegistry));
+        lanes.put(BulkheadLane.Read, new Lane(BulkheadLane.Read, readConcurrent, readWait, meterRegistry));
+        lanes.put(BulkheadLane.Export, new Lane(BulkheadLane.Export, exportConcurrent, exportWait, meterRegistry));
+    }
+
+    /**
+     * Takes a permit of the lane, waiting up to its {@code max-wait}. Every successful call
+     * must be paired with {@link #release}.
+     */
+    public void acquire(BulkheadLane lane) {
+        if(enabled) {
+            lanes.get(lane).acquire();
+        }
+    }
+
+    public void release(BulkheadLane lane) {
+        if(enabled) {
+            lanes.get(lane).permits.release();
+        }
+    }
+
+    public <T> T execute(BulkheadLane lane, Supplier<T> work) {
+        acquire(lane);
+        try {
+            return work.get();
+        } finally {
+            release(lane);
+        }
+    }
+
+    public int getWaiting(BulkheadLane lane) {
+        return lanes.get(lane).waiting.get();
+    }
+
+    public int getActive(BulkheadLane lane) {
+        Lane l = lanes.get(lane);
+        return l.maxConcurrent - l.permits.availablePermits();
+    }
+
+    private static final class Lane {
+
+        private final BulkheadLane lane;
+        private final int maxConcurrent;
+        private final Duration maxWait;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Timer waitTimer;
+        private final Counter rejected;
+
+        private Lane(BulkheadLane lane, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+            this.lane = lane;
+            this.maxConcurrent = Math.max(1, maxConcurrent);
+            this.maxWait = maxWait;
+            this.permits = new Semaphore(this.maxConcurrent, true);
+
+            String tag = lane.name().toLowerCase();
+            Gauge.builder("bandbooking.bulkhead.waiting", waiting, AtomicInteger::get)
+                    .description("Callers queued for a bulkhead permit")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("bandbooking.bulkhead.active", permits, p -> this.maxConcurrent - p.availablePermits())
+                    .description("Callers holding a bulkhead permit")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder("bandbooking.bulkhead.wait")
+                    .description("Time spent waiting for a bulkhead permit")
+                    .tag("lane", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("bandbooking.bulkhead.rejected")
+                    .description("Callers rejected because the bulkhead stayed full")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+
+        private void acquire() {
+            if(permits.tryAcquire()) {
+                waitTimer.record(Duration.ZERO);
+                return;
+            }
+
+            long start = System.nanoTime();
+            boolean acquired;
+            waiting.incrementAndGet();
+            try {
+                acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            } finally {
+                waiting.decrementAndGet();
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+
+            if(!acquired) {
+                rejected.increment();
+                log.warn("Bulkhead full, rejecting. lane={}, maxConcurrent={}, waiting={}",
+                        lane, maxConcurrent, waiting.get());
+                throw new BulkheadFullException("Server is busy, please retry.", retryAfter);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.jspss.bandbooking.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Strong entity tags for conditional GETs.
+ * <p>
+ * Versioned entities are tagged from their {@code @Version} column, which Hibernate bumps on
+ * every change to the row and to the collections the entity owns, so the tag can be checked
+ * with a single-column lookup before the aggregate is loaded. Reference lists have no version
+ * of their own and are tagged with a digest of every row's key fields instead.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String ofVersion(String type, Long id, Long version) {
+        return type + "-" + id + "-" + version;
+    }
+
+    public static <T> String ofRows(String type, Collection<T> rows, Function<? super T, ?> key) {
+        MessageDigest digest = sha256();
+        for(T row: rows) {
+            digest.update(String.valueOf(key.apply(row)).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return type + "-" + HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jspss.bandbooking.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cache-Control headers for the conditional GET endpoints. Entities must be revalidated on
+ * every use; reference lists may be reused for {@code reference-max-age} before revalidating.
+ */
+@Component
+public class HttpCachePolicy {
+
+    private final CacheControl referenceData;
+
+    public HttpCachePolicy(@Value("${bandbooking.http.cache.reference-max-age:60s}") Duration referenceMaxAge) {
+        this.referenceData = CacheControl.maxAge(referenceMaxAge).cachePrivate().mustRevalidate();
+    }
+
+    public CacheControl entity() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    public CacheControl referenceData() {
+        return referenceData;
+    }
+}
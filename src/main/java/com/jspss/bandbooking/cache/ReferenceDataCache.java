@@ -0,0 +1,57 @@
+package com.jspss.bandbooking.cache;
+
+import com.jspss.bandbooking.entities.Instrument;
+import com.jspss.bandbooking.entities.MusicStyle;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Second-level cache regions for the instrument and music style reference tables.
+ * <p>
+ * Hibernate keeps the entity regions in step with changes it makes itself; the services
+ * still evict explicitly on every mutation so cached lookup queries never outlive a change,
+ * including changes made by native or bulk statements. Eviction happens immediately and
+ * again after commit, so a concurrent reader cannot re-cache the pre-commit row.
+ * Hit/miss counts of every region are published as JCache statistics MBeans.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    public static final String INSTRUMENT_REGION = "reference.instrument";
+    public static final String MUSIC_STYLE_REGION = "reference.music-style";
+    public static final String QUERY_REGION = "reference.queries";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictInstrument(Long id) {
+        evict(Instrument.class, id);
+    }
+
+    public void evictMusicStyle(Long id) {
+        evict(MusicStyle.class, id);
+    }
+
+    private void evict(Class<?> type, Long id) {
+        Runnable eviction = () -> {
+            if(id != null) {
+                entityManagerFactory.getCache().evict(type, id);
+            }
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(QUERY_REGION);
+        };
+
+        eviction.run();
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.jspss.bandbooking.config;
 
 import com.jspss.bandbooking.logging.MdcPropagatingAsyncTaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -12,7 +14,16 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class AsyncConfig {
 
     @Bean(name = "taskExecutor")
-    public AsyncTaskExecutor taskExecutor(){
+    public AsyncTaskExecutor taskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                          @Value("${bandbooking.async.virtual.concurrency-limit:64}") int concurrencyLimit){
+        if(virtualThreads) {
+            // One virtual thread per task; the limit keeps the same back-pressure the pool gave.
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrencyLimit);
+            return new MdcPropagatingAsyncTaskExecutor(executor);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(8);
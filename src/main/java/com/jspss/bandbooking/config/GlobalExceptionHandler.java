@@ -1,9 +1,12 @@
 package com.jspss.bandbooking.config;
 
 import com.jspss.bandbooking.exceptions.BadRequestException;
+import com.jspss.bandbooking.exceptions.BulkheadFullException;
 import com.jspss.bandbooking.exceptions.ConflictException;
 import com.jspss.bandbooking.exceptions.NotFoundException;
+import com.jspss.bandbooking.logging.TraceIds;
 import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,7 +17,6 @@ import org.slf4j.MDC;
 
 import java.time.ZonedDateTime;
 import java.util.Optional;
-import java.util.UUID;
 
 
 @RestControllerAdvice
@@ -24,7 +26,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleRuntime(RuntimeException ex){
 
         String traceId = Optional.ofNullable(MDC.get("traceId"))
-                .orElse(UUID.randomUUID().toString());
+                .orElseGet(TraceIds::generate);
 
         ApiErrorResponse response = new ApiErrorResponse(
                 ex.getMessage(),
@@ -42,7 +44,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleValidation(MethodArgumentNotValidException ex){
 
         String traceId = Optional.ofNullable(MDC.get("traceId"))
-                .orElse(UUID.randomUUID().toString());
+                .orElseGet(TraceIds::generate);
 
         String message = ex.getBindingResult()
                 .getFieldErrors()
@@ -67,7 +69,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleConstraintViolation(ConstraintViolationException ex){
 
         String traceId = Optional.ofNullable(MDC.get("traceId"))
-                .orElse(UUID.randomUUID().toString());
+                .orElseGet(TraceIds::generate);
 
         ApiErrorResponse response = new ApiErrorResponse(
                 ex.getMessage(),
@@ -85,7 +87,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleNotFound(NotFoundException ex) {
 
         String traceId = Optional.ofNullable(MDC.get("traceId"))
-                .orElse(UUID.randomUUID().toString());
+                .orElseGet(TraceIds::generate);
 
         ApiErrorResponse response = new ApiErrorResponse(
                 ex.getMessage(),
@@ -103,7 +105,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleBadRequest (BadRequestException ex){
 
         String traceId = Optional.ofNullable(MDC.get("traceId"))
-                .orElse(UUID.randomUUID().toString());
+                .orElseGet(TraceIds::generate);
 
         ApiErrorResponse response = new ApiErrorResponse(
                 ex.getMessage(),
@@ -121,7 +123,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleConflict(ConflictException ex) {
 
         String traceId = Optional.ofNullable(MDC.get("traceId"))
-                .orElse(UUID.randomUUID().toString());
+                .orElseGet(TraceIds::generate);
 
         ApiErrorResponse response = new ApiErrorResponse(
                 ex.getMessage(),
@@ -134,4 +136,25 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ApiErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+
+        String traceId = Optional.ofNullable(MDC.get("traceId"))
+                .orElseGet(TraceIds::generate);
+
+        ApiErrorResponse response = new ApiErrorResponse(
+                ex.getMessage(),
+                "BulkheadFullException",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "SERVICE_BUSY",
+                ZonedDateTime.now(),
+                traceId
+        );
+
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(response);
+    }
 }
@@ -0,0 +1,129 @@
+package com.jspss.bandbooking.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps virtual threads from stampeding the Hikari pool.
+ * <p>
+ * With virtual threads Tomcat no longer caps concurrent requests at its worker pool size, so a
+ * burst can park thousands of requests inside Hikari, each waiting out the full connection
+ * timeout. When virtual threads are enabled the pool's connection timeout is capped at
+ * {@code connection-timeout}, and at most {@code waiters-per-connection} times the pool size
+ * threads may hold or wait for a connection; beyond that {@code getConnection} fails at once.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPoolGuard implements BeanPostProcessor {
+
+    private final Duration connectionTimeout;
+    private final int waitersPerConnection;
+
+    public VirtualThreadPoolGuard(@Value("${bandbooking.threads.virtual.connection-timeout:2s}") Duration connectionTimeout,
+                                  @Value("${bandbooking.threads.virtual.waiters-per-connection:4}") int waitersPerConnection) {
+        this.connectionTimeout = connectionTimeout;
+        this.waitersPerConnection = Math.max(1, waitersPerConnection);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if(!(bean instanceof HikariDataSource hikari)) {
+            return bean;
+        }
+
+        if(hikari.getConnectionTimeout() > connectionTimeout.toMillis()) {
+            hikari.setConnectionTimeout(connectionTimeout.toMillis());
+        }
+        int permits = hikari.getMaximumPoolSize() * waitersPerConnection;
+        log.info("Guarding connection pool for virtual threads. pool={}, maxPoolSize={}, admitted={}, connectionTimeout={}ms",
+                hikari.getPoolName(), hikari.getMaximumPoolSize(), permits, hikari.getConnectionTimeout());
+        return new AdmissionDataSource(hikari, permits);
+    }
+
+    static final class AdmissionDataSource extends DelegatingDataSource {
+
+        private final Semaphore admitted;
+
+        AdmissionDataSource(DataSource target, int permits) {
+            super(target);
+            this.admitted = new Semaphore(permits);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            admit();
+            try {
+                return releasing(super.getConnection());
+            } catch (SQLException | RuntimeException ex) {
+                admitted.release();
+                throw ex;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            admit();
+            try {
+                return releasing(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException ex) {
+                admitted.release();
+                throw ex;
+            }
+        }
+
+        int availablePermits() {
+            return admitted.availablePermits();
+        }
+
+        private void admit() throws SQLException {
+            if(!admitted.tryAcquire()) {
+                throw new SQLTransientConnectionException("Too many requests waiting for a database connection.");
+            }
+        }
+
+        // The permit is held until the connection goes back to the pool.
+        private Connection releasing(Connection connection) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "equals" -> {
+                                return proxy == args[0];
+                            }
+                            case "hashCode" -> {
+                                return System.identityHashCode(proxy);
+                            }
+                            case "close" -> {
+                                if(released.compareAndSet(false, true)) {
+                                    admitted.release();
+                                }
+                            }
+                            default -> { }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.jspss.bandbooking.controllers;
 
+import com.jspss.bandbooking.bulkhead.Bulkhead;
+import com.jspss.bandbooking.bulkhead.BulkheadLane;
+import com.jspss.bandbooking.cache.ETags;
+import com.jspss.bandbooking.cache.HttpCachePolicy;
 import com.jspss.bandbooking.dto.responses.BandResponseDTO;
 import com.jspss.bandbooking.dto.requests.create.CreateBandRequest;
 import com.jspss.bandbooking.dto.requests.updates.UpdateBandRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
+import com.jspss.bandbooking.dto.responses.SuggestionDTO;
 import com.jspss.bandbooking.dto.summaries.BandSummaryDTO;
 import com.jspss.bandbooking.entities.Band;
 import com.jspss.bandbooking.mappers.BandMapper;
+import com.jspss.bandbooking.pagination.PageSizeLimits;
 import com.jspss.bandbooking.repositories.*;
 import com.jspss.bandbooking.services.BandService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,6 +24,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,24 +40,47 @@ public class BandController {
     private final InstrumentRepository instrumentRepository;
     private final ClientRepository clientRepository;
     private final AuditLogRepository auditLogRepository;
+    private final PageSizeLimits pageSizeLimits;
+    private final HttpCachePolicy httpCachePolicy;
 
     @Operation(summary = "Get a band by Id.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Band found."),
+            @ApiResponse(responseCode = "304", description = "Band unchanged since the ETag in If-None-Match."),
             @ApiResponse(responseCode = "404", description = "Band cannot be found.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/{id}")
-    public ResponseEntity<BandResponseDTO> getBand(@PathVariable Long id) {
+    public ResponseEntity<BandResponseDTO> getBand(@PathVariable Long id, WebRequest request) {
+        // The version lookup is answered from the index; the band is only loaded when it changed.
+        String etag = bandService.findBandVersion(id)
+                .map(version -> ETags.ofVersion("band", id, version))
+                .orElse(null);
+        if(etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(httpCachePolicy.entity())
+                    .build();
+        }
+
         Band band = bandService.getBand(id);
-        return ResponseEntity.ok(bandMapper.toDTO(band));
+        return ResponseEntity.ok()
+                .eTag(ETags.ofVersion("band", band.getId(), band.getVersion()))
+                .cacheControl(httpCachePolicy.entity())
+                .body(bandMapper.toDTO(band));
     }
 
+    @Operation(summary = "Get bands one page at a time, ordered by ID.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of bands found."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.")
+    })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping
-    public ResponseEntity<List<BandSummaryDTO>> getAllBands() {
-        return ResponseEntity.ok(
-                bandService.getAllBands()
-                        .stream()
-                        .map(bandMapper::toSummaryDTO).toList());
+    public ResponseEntity<CursorPageDTO<BandSummaryDTO>> getAllBands(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<Band> page = bandService.getBandPage(cursor, pageSizeLimits.resolve(limit));
+        return ResponseEntity.ok(page.map(bandMapper::toSummaryDTO));
     }
 
     @Operation(summary = "Create a new band.")
@@ -88,6 +119,7 @@ public class BandController {
         bandService.deleteBand(id);
     }
 
+    @Bulkhead(BulkheadLane.Search)
     @GetMapping("/search")
     public ResponseEntity<List<BandResponseDTO>> searchBands(@RequestParam String query) {
         List<Band> bandList = bandService.searchBands(query);
@@ -95,6 +127,20 @@ public class BandController {
                 .map(bandMapper::toDTO).toList());
     }
 
+    @Operation(summary = "Suggest bands whose name has a word starting with the prefix.",
+            description = "Words are split on spaces and punctuation; further prefix words narrow the match. "
+                    + "Results are ordered by the matched word, then by name. Accents are ignored, except "
+                    + "while the in-memory index is warming after startup or disabled.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions found.")
+    })
+    @Bulkhead(BulkheadLane.Search)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggestBands(@RequestParam String prefix,
+                                                            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(bandService.suggestBands(prefix, limit));
+    }
+
     @Operation(summary = "Add a musician to a band.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Musician added."),
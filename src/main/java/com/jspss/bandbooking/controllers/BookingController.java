@@ -1,24 +1,40 @@
 package com.jspss.bandbooking.controllers;
 
+import com.jspss.bandbooking.bulkhead.Bulkhead;
+import com.jspss.bandbooking.bulkhead.BulkheadLane;
+import com.jspss.bandbooking.dto.requests.BatchCheckAvailabilityRequest;
+import com.jspss.bandbooking.dto.requests.BulkAssignRequest;
+import com.jspss.bandbooking.dto.responses.BatchAvailabilityResponseDTO;
 import com.jspss.bandbooking.dto.responses.BookingResponseDTO;
+import com.jspss.bandbooking.dto.responses.BulkAssignmentResponseDTO;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
 import com.jspss.bandbooking.dto.requests.CheckAvailabilityRequest;
 import com.jspss.bandbooking.dto.requests.create.CreateBookingRequest;
 import com.jspss.bandbooking.dto.requests.updates.UpdateBookingStatus;
 import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
 import com.jspss.bandbooking.entities.Booking;
 import com.jspss.bandbooking.entities.enums.BookingStatus;
+import com.jspss.bandbooking.export.ExportFormat;
 import com.jspss.bandbooking.mappers.BookingMapper;
+import com.jspss.bandbooking.pagination.BookingSortOrder;
+import com.jspss.bandbooking.pagination.PageSizeLimits;
 import com.jspss.bandbooking.repositories.MusicStyleRepository;
 import com.jspss.bandbooking.repositories.MusicianRepository;
+import com.jspss.bandbooking.services.BookingExportService;
 import com.jspss.bandbooking.services.BookingService;
+import com.jspss.bandbooking.services.BulkAssignmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -27,9 +43,12 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BulkAssignmentService bulkAssignmentService;
+    private final BookingExportService bookingExportService;
     private final BookingMapper bookingMapper;
     private final MusicianRepository musicianRepository;
     private final MusicStyleRepository musicStyleRepository;
+    private final PageSizeLimits pageSizeLimits;
 
     @Operation(
             summary = "Create a new booking",
@@ -38,7 +57,8 @@ public class BookingController {
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Booking created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid booking request"),
-            @ApiResponse(responseCode = "404", description = "Client or band not found")
+            @ApiResponse(responseCode = "404", description = "Client or band not found"),
+            @ApiResponse(responseCode = "409", description = "Band already booked for an overlapping time")
     })
     @PostMapping
     public ResponseEntity<BookingResponseDTO> createBooking(@Valid @RequestBody CreateBookingRequest request){
@@ -62,19 +82,35 @@ public class BookingController {
             @ApiResponse(responseCode = "400", description = "Musicians already assigned or missing requirements"),
             @ApiResponse(responseCode = "404", description = "Booking not found")
     })
+    @Bulkhead(BulkheadLane.Assignment)
     @PostMapping("/{bookingId}/assign")
     public ResponseEntity<BookingResponseDTO> assignMusicians(@PathVariable Long bookingId){
         Booking booking = bookingService.assignMusicians(bookingId);
         return ResponseEntity.ok(bookingMapper.toDTO(booking));
     }
 
+    @Operation(
+            summary = "Assign musicians to all pending bookings in a date range",
+            description = "Solves all pending bookings together so no musician is double-booked, committing in batches."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bulk assignment finished, see failures for skipped bookings"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    @Bulkhead(BulkheadLane.Assignment)
+    @PostMapping("/assign")
+    public ResponseEntity<BulkAssignmentResponseDTO> assignPendingBookings(@Valid @RequestBody BulkAssignRequest request) {
+        return ResponseEntity.ok(bulkAssignmentService.assignPendingBookings(request.from(), request.to()));
+    }
+
     @Operation(
             summary = "Update booking status",
             description = "Updates the status of a booking (Pending, Confirmed, Completed, Cancelled)."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Status updated"),
-            @ApiResponse(responseCode = "404", description = "Booking not found")
+            @ApiResponse(responseCode = "404", description = "Booking not found"),
+            @ApiResponse(responseCode = "409", description = "Band already booked for an overlapping time")
     })
     @PatchMapping("/{bookingId}/status")
     public ResponseEntity<BookingSummaryDTO> updateStatus(@PathVariable Long bookingId, @Valid @RequestBody UpdateBookingStatus status){
@@ -87,17 +123,49 @@ public class BookingController {
             @ApiResponse(responseCode = "200", description = "Booking retrieved"),
             @ApiResponse(responseCode = "404", description = "Booking not found")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/{bookingId}")
     public ResponseEntity<BookingResponseDTO> getBooking(@PathVariable Long bookingId) {
         Booking booking = bookingService.getBooking(bookingId);
         return ResponseEntity.ok(bookingMapper.toDTO(booking));
     }
 
+    @Operation(
+            summary = "Get bookings one page at a time",
+            description = "Keyset-paginated. Pass the returned nextCursor to fetch the following page; " +
+                    "a cursor is only valid with the sort order it was issued for."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of bookings found"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping
-    public ResponseEntity<List<BookingSummaryDTO>> getAllBookings(){
-        List<Booking> allBookings = bookingService.getAllBookings();
-        return ResponseEntity.ok(allBookings.stream().map(
-                bookingMapper::toBookingSummary).toList());
+    public ResponseEntity<CursorPageDTO<BookingSummaryDTO>> getAllBookings(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(required = false) Integer limit,
+                                                                           @RequestParam(defaultValue = "Id") BookingSortOrder sort){
+        CursorPageDTO<Booking> page = bookingService.getBookingPage(cursor, pageSizeLimits.resolve(limit), sort);
+        return ResponseEntity.ok(page.map(bookingMapper::toBookingSummary));
+    }
+
+    @Operation(
+            summary = "Export all bookings",
+            description = "Streams every booking as newline-delimited JSON (default) or CSV, one booking per line."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unknown export format")
+    })
+    @Bulkhead(BulkheadLane.Export)
+    @GetMapping("/export")
+    public void exportBookings(@RequestParam(defaultValue = "Ndjson") ExportFormat format,
+                               HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("bookings." + format.getExtension())
+                .build()
+                .toString());
+        bookingExportService.exportBookings(format, response.getOutputStream());
     }
 
     @Operation(summary = "Get all bookings for a band")
@@ -105,6 +173,7 @@ public class BookingController {
             @ApiResponse(responseCode = "200", description = "Bookings found"),
             @ApiResponse(responseCode = "404", description = "Band not found")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/band/{bandId}")
     public ResponseEntity<List<BookingSummaryDTO>> getBookingsForBand(@PathVariable Long bandId){
         return ResponseEntity.ok(bookingService.getBookingsForBand(bandId));
@@ -115,6 +184,7 @@ public class BookingController {
             @ApiResponse(responseCode = "200", description = "Bookings found"),
             @ApiResponse(responseCode = "404", description = "Musicians not found.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/musician/{musicianId}")
     public ResponseEntity<List<BookingSummaryDTO>> getBookingsForMusician(@PathVariable Long musicianId){
         return ResponseEntity.ok(bookingService.getBookingsForMusician(musicianId));
@@ -125,6 +195,7 @@ public class BookingController {
             @ApiResponse(responseCode = "200", description = "Bookings found"),
             @ApiResponse(responseCode = "404", description = "Client not found")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/client/{clientId}")
     public ResponseEntity<List<BookingSummaryDTO>> getBookingsForClient(@PathVariable Long clientId){
         return ResponseEntity.ok(bookingService.getBookingsForClient(clientId));
@@ -142,6 +213,7 @@ public class BookingController {
         return ResponseEntity.ok(bookingMapper.toBookingSummary(booking));
     }
 
+    @Bulkhead(BulkheadLane.Read)
     @PostMapping("/check-availability")
     public ResponseEntity<Boolean> checkAvailability(@Valid @RequestBody CheckAvailabilityRequest request) {
         boolean available = bookingService.isBandAvailable(
@@ -151,4 +223,19 @@ public class BookingController {
         return ResponseEntity.ok(available);
     }
 
+    @Operation(
+            summary = "Check availability for many bands and time windows",
+            description = "Returns a band by window availability matrix resolved with a single query."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Availability matrix computed"),
+            @ApiResponse(responseCode = "400", description = "Invalid band list or time window")
+    })
+    @Bulkhead(BulkheadLane.Search)
+    @PostMapping("/check-availability/batch")
+    public ResponseEntity<BatchAvailabilityResponseDTO> checkAvailabilityBatch(@Valid @RequestBody BatchCheckAvailabilityRequest request) {
+        List<List<Boolean>> available = bookingService.checkAvailability(request.bandIds(), request.windows());
+        return ResponseEntity.ok(new BatchAvailabilityResponseDTO(request.bandIds(), request.windows(), available));
+    }
+
 }
@@ -1,5 +1,7 @@
 package com.jspss.bandbooking.controllers;
 
+import com.jspss.bandbooking.bulkhead.Bulkhead;
+import com.jspss.bandbooking.bulkhead.BulkheadLane;
 import com.jspss.bandbooking.dto.requests.create.CreateClientRequest;
 import com.jspss.bandbooking.dto.requests.updates.UpdateClientRequest;
 import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
@@ -8,7 +10,9 @@ import com.jspss.bandbooking.entities.Booking;
 import com.jspss.bandbooking.entities.Client;
 import com.jspss.bandbooking.mappers.BookingMapper;
 import com.jspss.bandbooking.mappers.ClientMapper;
+import com.jspss.bandbooking.pagination.PageSizeLimits;
 import com.jspss.bandbooking.dto.responses.ClientResponseDTO;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
 import com.jspss.bandbooking.repositories.AuditLogRepository;
 import com.jspss.bandbooking.repositories.ClientRepository;
 import com.jspss.bandbooking.services.ClientService;
@@ -34,25 +38,31 @@ public class ClientController {
     private final BookingMapper bookingMapper;
     private final AuditLogRepository auditLogRepository;
     private final ClientRepository clientRepository;
+    private final PageSizeLimits pageSizeLimits;
 
     @Operation(summary = "Get client by ID.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Client found."),
             @ApiResponse(responseCode = "404", description = "Client not found.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/{id}")
     public ResponseEntity<ClientResponseDTO> getClient(@PathVariable Long id){
         Client client = clientService.getClient(id);
         return ResponseEntity.ok(clientMapper.toDTO(client));
     }
 
+    @Operation(summary = "Get clients one page at a time, ordered by ID.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of clients found."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.")
+    })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping
-    public ResponseEntity<List<ClientResponseDTO>> getAllClients(){
-        List<Client> clientList = clientService.getAllClients();
-        return ResponseEntity.ok(clientList
-                .stream()
-                .map(clientMapper::toDTO)
-                .toList());
+    public ResponseEntity<CursorPageDTO<ClientResponseDTO>> getAllClients(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer limit){
+        CursorPageDTO<Client> page = clientService.getClientPage(cursor, pageSizeLimits.resolve(limit));
+        return ResponseEntity.ok(page.map(clientMapper::toDTO));
     }
 
     @Operation(summary = "Create a new client.")
@@ -83,6 +93,7 @@ public class ClientController {
         return ResponseEntity.ok(clientMapper.toDTO(updated));
     }
 
+    @Bulkhead(BulkheadLane.Search)
     @GetMapping("/search")
     public ResponseEntity<List<ClientResponseDTO>> searchClients(@RequestParam String query) {
         List<Client> clientList = clientService.searchClients(query);
@@ -95,6 +106,7 @@ public class ClientController {
             @ApiResponse(responseCode = "200", description = "All bookings provided."),
             @ApiResponse(responseCode = "404", description = "Client or bookings not found.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/{clientId}/bookings")
     public ResponseEntity<List<BookingSummaryDTO>> getBookings(@PathVariable Long clientId){
         return ResponseEntity.ok(clientService.getBookings(clientId));
@@ -1,5 +1,9 @@
 package com.jspss.bandbooking.controllers;
 
+import com.jspss.bandbooking.bulkhead.Bulkhead;
+import com.jspss.bandbooking.bulkhead.BulkheadLane;
+import com.jspss.bandbooking.cache.ETags;
+import com.jspss.bandbooking.cache.HttpCachePolicy;
 import com.jspss.bandbooking.dto.requests.create.CreateInstrumentRequest;
 import com.jspss.bandbooking.dto.requests.updates.UpdateInstrumentRequest;
 import com.jspss.bandbooking.dto.responses.InstrumentResponseDTO;
@@ -25,6 +29,7 @@ public class InstrumentController {
 
     private final InstrumentService instrumentService;
     private final InstrumentMapper instrumentMapper;
+    private final HttpCachePolicy httpCachePolicy;
 
 
     @Operation(summary = "Get instrument by ID.")
@@ -32,6 +37,7 @@ public class InstrumentController {
             @ApiResponse(responseCode = "200", description = "Instrument successfully found."),
             @ApiResponse(responseCode = "404", description = "Instrument could not be found.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/{id}")
     public ResponseEntity<InstrumentResponseDTO> getInstrument(@PathVariable Long id){
         Instrument instrument = instrumentService.getInstrument(id);
@@ -65,14 +71,20 @@ public class InstrumentController {
 
     @Operation(summary = "Get all instruments.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "All instruments retrieved.")
+            @ApiResponse(responseCode = "200", description = "All instruments retrieved."),
+            @ApiResponse(responseCode = "304", description = "Instruments unchanged since the ETag in If-None-Match.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping
     public ResponseEntity<List<InstrumentResponseDTO>> getAllInstruments(){
-        return ResponseEntity.ok(instrumentService.getAllInstruments()
-                .stream()
-                .map(instrumentMapper::toDTO)
-                .toList());
+        // The list comes from the query cache; a matching If-None-Match skips serializing it.
+        List<Instrument> instruments = instrumentService.getAllInstruments();
+        return ResponseEntity.ok()
+                .eTag(ETags.ofRows("instruments", instruments, i -> i.getId() + ":" + i.getName()))
+                .cacheControl(httpCachePolicy.referenceData())
+                .body(instruments.stream()
+                        .map(instrumentMapper::toDTO)
+                        .toList());
     }
 
     @Operation(summary = "Update an instrument by ID.")
@@ -100,6 +112,7 @@ public class InstrumentController {
         instrumentService.deleteInstrument(id);
     }
 
+    @Bulkhead(BulkheadLane.Search)
     @GetMapping("/search")
     public ResponseEntity<List<InstrumentResponseDTO>> searchInstruments(@RequestParam String query) {
         List<Instrument> instruments = instrumentService.searchInstruments(query);
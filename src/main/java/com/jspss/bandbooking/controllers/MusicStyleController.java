@@ -1,5 +1,9 @@
 package com.jspss.bandbooking.controllers;
 
+import com.jspss.bandbooking.bulkhead.Bulkhead;
+import com.jspss.bandbooking.bulkhead.BulkheadLane;
+import com.jspss.bandbooking.cache.ETags;
+import com.jspss.bandbooking.cache.HttpCachePolicy;
 import com.jspss.bandbooking.dto.requests.create.CreateInstrumentRequest;
 import com.jspss.bandbooking.dto.requests.create.CreateMusicStyleRequest;
 import com.jspss.bandbooking.dto.requests.updates.UpdateMusicStyleRequest;
@@ -28,12 +32,14 @@ public class MusicStyleController {
     private final MusicStyleService musicStyleService;
     private final MusicStyleMapper musicStyleMapper;
     private final MusicStyleRepository musicStyleRepository;
+    private final HttpCachePolicy httpCachePolicy;
 
     @Operation(summary = "Get a Music Style by ID.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Music style found."),
             @ApiResponse(responseCode = "404", description = "Music style could not be found.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/{id}")
     public ResponseEntity<MusicStyleResponseDTO> getMusicStyle (@PathVariable Long id){
         MusicStyle musicStyle = musicStyleService.getMusicStyle(id);
@@ -43,13 +49,17 @@ public class MusicStyleController {
     @Operation(summary = "Get a list of all music styles.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "All music styles found."),
+            @ApiResponse(responseCode = "304", description = "Music styles unchanged since the ETag in If-None-Match."),
             @ApiResponse(responseCode = "404", description = "Could not find all music styles.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping
     public ResponseEntity<List<MusicStyleResponseDTO>> getAllMusicStyles(){
         List<MusicStyle> allStyles = musicStyleService.getAllMusicStyles();
-        return ResponseEntity.ok(allStyles
-                .stream().map(musicStyleMapper::toDTO).toList());
+        return ResponseEntity.ok()
+                .eTag(ETags.ofRows("musicstyles", allStyles, s -> s.getId() + ":" + s.getName()))
+                .cacheControl(httpCachePolicy.referenceData())
+                .body(allStyles.stream().map(musicStyleMapper::toDTO).toList());
     }
 
     @Operation(summary = "Create a style of music.")
@@ -94,6 +104,7 @@ public class MusicStyleController {
         musicStyleService.deleteMusicStyle(id);
     }
 
+    @Bulkhead(BulkheadLane.Search)
     @GetMapping("/search")
     public ResponseEntity<List<MusicStyleResponseDTO>> searchMusicStyles(String query) {
         List<MusicStyle> musicStyleList = musicStyleService.searchMusicStyles(query);
@@ -1,12 +1,17 @@
 package com.jspss.bandbooking.controllers;
 
+import com.jspss.bandbooking.bulkhead.Bulkhead;
+import com.jspss.bandbooking.bulkhead.BulkheadLane;
 import com.jspss.bandbooking.dto.requests.create.CreateMusicianRequest;
 import com.jspss.bandbooking.dto.requests.updates.UpdateMusicianRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
 import com.jspss.bandbooking.dto.responses.MusicianResponseDTO;
+import com.jspss.bandbooking.dto.responses.SuggestionDTO;
 import com.jspss.bandbooking.dto.summaries.MusicianSummaryDTO;
 import com.jspss.bandbooking.entities.Instrument;
 import com.jspss.bandbooking.entities.Musician;
 import com.jspss.bandbooking.mappers.MusicianMapper;
+import com.jspss.bandbooking.pagination.PageSizeLimits;
 import com.jspss.bandbooking.repositories.AuditLogRepository;
 import com.jspss.bandbooking.services.MusicianService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,29 +33,34 @@ public class MusicianController {
     private final MusicianService musicianService;
     private final MusicianMapper musicianMapper;
     private final AuditLogRepository auditLogRepository;
+    private final PageSizeLimits pageSizeLimits;
 
     @Operation(summary = "Get musician by ID.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Musician found."),
             @ApiResponse(responseCode = "404", description = "Could not find Musician.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping("/{id}")
     public ResponseEntity<MusicianResponseDTO> getMusician(@PathVariable Long id){
         Musician musician = musicianService.getMusician(id);
         return ResponseEntity.ok(musicianMapper.toDTO(musician));
     }
 
-    @Operation(summary = "Get all musicians.")
+    @Operation(summary = "Get musicians one page at a time, ordered by ID.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "All musicians found.")
+            @ApiResponse(responseCode = "200", description = "Page of musicians found."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.")
     })
+    @Bulkhead(BulkheadLane.Read)
     @GetMapping
-    public ResponseEntity<List<MusicianSummaryDTO>> getAllMusicians(){
-        List<Musician> musicianList = musicianService.getAllMusicians();
-        return ResponseEntity.ok(musicianList.stream()
-                .map(musicianMapper::toSummary).toList());
+    public ResponseEntity<CursorPageDTO<MusicianSummaryDTO>> getAllMusicians(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam(required = false) Integer limit){
+        CursorPageDTO<Musician> page = musicianService.getMusicianPage(cursor, pageSizeLimits.resolve(limit));
+        return ResponseEntity.ok(page.map(musicianMapper::toSummary));
     }
 
+    @Bulkhead(BulkheadLane.Search)
     @GetMapping("/search")
     public ResponseEntity<List<MusicianSummaryDTO>> searchMusician(@RequestParam String query) {
         List<Musician> results = musicianService.searchMusicians(query);
@@ -58,6 +68,20 @@ public class MusicianController {
                 .map(musicianMapper::toSummary).toList());
     }
 
+    @Operation(summary = "Suggest musicians whose name has a word starting with the prefix.",
+            description = "Words are split on spaces and punctuation; further prefix words narrow the match. "
+                    + "Results are ordered by the matched word, then by name. Accents are ignored, except "
+                    + "while the in-memory index is warming after startup or disabled.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions found.")
+    })
+    @Bulkhead(BulkheadLane.Search)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggestMusicians(@RequestParam String prefix,
+                                                                @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(musicianService.suggestMusicians(prefix, limit));
+    }
+
     @Operation(summary = "Create a musician.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Musician successfully created."),
@@ -0,0 +1,37 @@
+package com.jspss.bandbooking.controllers;
+
+import com.jspss.bandbooking.bulkhead.Bulkhead;
+import com.jspss.bandbooking.bulkhead.BulkheadLane;
+import com.jspss.bandbooking.dto.responses.SearchResultDTO;
+import com.jspss.bandbooking.services.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(
+            summary = "Search bands, musicians, clients, instruments and music styles.",
+            description = "Fuzzy, typo-tolerant match on names (and client emails), ranked by similarity across all types."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ranked matches, best first."),
+            @ApiResponse(responseCode = "400", description = "Query shorter than 3 characters.")
+    })
+    @Bulkhead(BulkheadLane.Search)
+    @GetMapping
+    public ResponseEntity<List<SearchResultDTO>> search(@RequestParam String query,
+                                                        @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(searchService.search(query, limit));
+    }
+}
@@ -0,0 +1,19 @@
+package com.jspss.bandbooking.dto.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.ZonedDateTime;
+
+@Schema(description = "A candidate time window for an availability check.")
+public record AvailabilityWindow(
+
+        @Schema(description = "Window start time.", example = "2026-03-15T19:00:00Z")
+        @NotNull
+        ZonedDateTime start,
+
+        @Schema(description = "Window end time.", example = "2026-03-15T21:00:00Z")
+        @NotNull
+        ZonedDateTime end
+) {
+}
@@ -0,0 +1,24 @@
+package com.jspss.bandbooking.dto.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request body for checking the availability of several bands over several time windows.")
+public record BatchCheckAvailabilityRequest(
+
+        @Schema(description = "Band IDs to check.", example = "[4,5,12]")
+        @NotEmpty
+        @Size(max = 200)
+        List<@NotNull Long> bandIds,
+
+        @Schema(description = "Candidate time windows to check every band against.")
+        @NotEmpty
+        @Size(max = 200)
+        List<@NotNull @Valid AvailabilityWindow> windows
+) {
+}
@@ -0,0 +1,19 @@
+package com.jspss.bandbooking.dto.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.ZonedDateTime;
+
+@Schema(description = "Request body for assigning musicians to every pending booking in a date range.")
+public record BulkAssignRequest(
+
+        @Schema(description = "Include pending bookings starting at or after this time.", example = "2026-03-01T00:00:00Z")
+        @NotNull
+        ZonedDateTime from,
+
+        @Schema(description = "Include pending bookings starting at or before this time.", example = "2026-03-31T23:59:59Z")
+        @NotNull
+        ZonedDateTime to
+) {
+}
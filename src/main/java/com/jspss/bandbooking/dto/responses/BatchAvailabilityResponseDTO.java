@@ -0,0 +1,21 @@
+package com.jspss.bandbooking.dto.responses;
+
+import com.jspss.bandbooking.dto.requests.AvailabilityWindow;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Availability matrix for a batch availability check.")
+public record BatchAvailabilityResponseDTO(
+
+        @Schema(description = "Band IDs, in the order of the matrix rows.", example = "[4,5,12]")
+        List<Long> bandIds,
+
+        @Schema(description = "Time windows, in the order of the matrix columns.")
+        List<AvailabilityWindow> windows,
+
+        @Schema(description = "available[i][j] is true when bandIds[i] is free for windows[j].",
+                example = "[[true,false],[true,true],[false,false]]")
+        List<List<Boolean>> available
+) {
+}
@@ -0,0 +1,20 @@
+package com.jspss.bandbooking.dto.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Result of a bulk musician assignment run.")
+public record BulkAssignmentResponseDTO(
+
+        @Schema(description = "Number of pending bookings found in the range.", example = "40")
+        int pending,
+
+        @Schema(description = "IDs of the bookings that were confirmed.", example = "[3,8,21]")
+        List<Long> confirmedBookingIds,
+
+        @Schema(description = "Reason per booking ID for bookings that could not be confirmed.")
+        Map<Long, String> failures
+) {
+}
@@ -0,0 +1,32 @@
+package com.jspss.bandbooking.dto.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "One page of a keyset-paginated list.")
+public record CursorPageDTO<T>(
+
+        @Schema(description = "Items on this page.")
+        List<T> items,
+
+        @Schema(description = "Opaque cursor for the next page, null on the last page.", example = "aToxMjM")
+        String nextCursor
+) {
+    /**
+     * Builds a page from a query that fetched up to {@code limit + 1} rows; the extra row only
+     * signals that another page exists.
+     */
+    public static <T> CursorPageDTO<T> of(List<T> fetched, int limit, Function<? super T, String> cursorOf) {
+        if(fetched.size() <= limit) {
+            return new CursorPageDTO<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new CursorPageDTO<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> CursorPageDTO<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPageDTO<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
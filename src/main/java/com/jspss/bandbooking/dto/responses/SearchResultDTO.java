@@ -0,0 +1,21 @@
+package com.jspss.bandbooking.dto.responses;
+
+import com.jspss.bandbooking.search.SearchResultType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One ranked match from the unified search.")
+public record SearchResultDTO(
+
+        @Schema(description = "Kind of entity matched.", example = "Musician")
+        SearchResultType type,
+
+        @Schema(description = "ID of the matched entity.", example = "12")
+        Long id,
+
+        @Schema(description = "Name the match was found in.", example = "David Karpinski")
+        String label,
+
+        @Schema(description = "Trigram similarity to the query, 0 to 1.", example = "0.62")
+        double score
+) {
+}
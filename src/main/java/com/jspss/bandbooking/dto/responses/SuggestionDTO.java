@@ -0,0 +1,14 @@
+package com.jspss.bandbooking.dto.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One typeahead suggestion.")
+public record SuggestionDTO(
+
+        @Schema(description = "ID of the suggested entity.", example = "12")
+        Long id,
+
+        @Schema(description = "Name of the suggested entity.", example = "David Karpinski")
+        String name
+) {
+}
@@ -16,6 +16,7 @@ import java.time.ZonedDateTime;
 @Table(name = "audit_logs")
 public class AuditLog {
 
+    // Rows are inserted by AuditLogWriter; the ID comes from the column default (audit_logs_seq).
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
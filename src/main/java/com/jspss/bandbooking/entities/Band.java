@@ -6,21 +6,29 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@NamedEntityGraph(name = Band.WITH_MEMBERS, attributeNodes = @NamedAttributeNode("bandMembers"))
 public class Band {
 
+    public static final String WITH_MEMBERS = "Band.withMembers";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "band_seq")
+    @SequenceGenerator(name = "band_seq", sequenceName = "band_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private String bandName;
 
@@ -30,7 +38,8 @@ public class Band {
             joinColumns = @JoinColumn(name = "band_id"),
             inverseJoinColumns = @JoinColumn(name = "musicstyle_id")
     )
-    private List<MusicStyle> musicStyles = new ArrayList<>();
+    @BatchSize(size = 50)
+    private Set<MusicStyle> musicStyles = new HashSet<>();
 
     @ManyToMany
     @JoinTable(
@@ -38,8 +47,9 @@ public class Band {
             joinColumns = @JoinColumn(name = "band_id"),
             inverseJoinColumns = @JoinColumn(name = "musician_id")
     )
+    @BatchSize(size = 50)
     @JsonIgnore
-    private List<Musician> bandMembers = new ArrayList<>();
+    private Set<Musician> bandMembers = new HashSet<>();
 
     @ManyToMany
     @JoinTable(
@@ -47,8 +57,9 @@ public class Band {
             joinColumns = @JoinColumn(name = "band_id"),
             inverseJoinColumns = @JoinColumn(name = "instrument_id")
     )
+    @BatchSize(size = 50)
     @JsonIgnore
-    private List<Instrument> requiredInstruments = new ArrayList<>();
+    private Set<Instrument> requiredInstruments = new HashSet<>();
 
 
 }
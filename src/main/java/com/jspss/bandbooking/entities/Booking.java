@@ -16,10 +16,15 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_booking_gig_starts_id", columnList = "gig_starts, id"))
 public class Booking {
 
+    /** Exclusion constraint (V5) that rejects overlapping active bookings of the same band. */
+    public static final String NO_OVERLAP_CONSTRAINT = "booking_band_no_overlap";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
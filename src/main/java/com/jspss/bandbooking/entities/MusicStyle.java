@@ -1,11 +1,14 @@
 package com.jspss.bandbooking.entities;
 
+import com.jspss.bandbooking.cache.ReferenceDataCache;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -14,10 +17,13 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCache.MUSIC_STYLE_REGION)
 public class MusicStyle {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "music_style_seq")
+    @SequenceGenerator(name = "music_style_seq", sequenceName = "music_style_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -7,20 +7,31 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@NamedEntityGraph(name = Musician.WITH_INSTRUMENTS, attributeNodes = @NamedAttributeNode("instruments"))
 public class Musician {
+
+    public static final String WITH_INSTRUMENTS = "Musician.withInstruments";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "musician_seq")
+    @SequenceGenerator(name = "musician_seq", sequenceName = "musician_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private String fullName;
 
@@ -43,7 +54,8 @@ public class Musician {
             joinColumns = @JoinColumn(name = "musician_id"),
             inverseJoinColumns = @JoinColumn(name = "instrument_id")
     )
-    private List<Instrument> instruments = new ArrayList<>();
+    @BatchSize(size = 50)
+    private Set<Instrument> instruments = new HashSet<>();
 
     @ManyToMany
     @JoinTable(
@@ -51,14 +63,17 @@ public class Musician {
             joinColumns = @JoinColumn(name = "musician_id"),
             inverseJoinColumns = @JoinColumn(name = "style_id")
     )
-    private List<MusicStyle> musicStyles = new ArrayList<>();
+    @BatchSize(size = 50)
+    private Set<MusicStyle> musicStyles = new HashSet<>();
 
     @ManyToMany(mappedBy = "bandMembers")
+    @BatchSize(size = 50)
     @JsonIgnore
-    private List<Band> bands = new ArrayList<>();
+    private Set<Band> bands = new HashSet<>();
 
 
     @ManyToMany(mappedBy = "musicianList")
+    @BatchSize(size = 50)
     @JsonIgnore
     private List<Booking> bookingsList = new ArrayList<>();
 }
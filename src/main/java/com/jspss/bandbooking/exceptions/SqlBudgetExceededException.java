@@ -0,0 +1,7 @@
+package com.jspss.bandbooking.exceptions;
+
+public class SqlBudgetExceededException extends RuntimeException {
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.jspss.bandbooking.export;
+
+public enum ExportFormat {
+    Ndjson("application/x-ndjson", "ndjson"),
+    Csv("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
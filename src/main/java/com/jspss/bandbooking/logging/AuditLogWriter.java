@@ -0,0 +1,260 @@
+package com.jspss.bandbooking.logging;
+
+import com.jspss.bandbooking.entities.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes audit log entries off the request thread.
+ * <p>
+ * Entries are queued in a bounded ring buffer and a single background thread drains them,
+ * inserting up to {@code batch-size} rows per JDBC batch. A batch is flushed when it is full
+ * or {@code flush-interval} after its first entry arrived. When the buffer is full the
+ * {@link OverflowPolicy} decides what happens to new entries. On shutdown the writer stops
+ * after the web server and flushes everything still queued.
+ * <p>
+ * An entry submitted inside a transaction is only queued once that transaction commits, so a
+ * rolled-back change leaves no audit row. Rows are written in their own transaction, which
+ * keeps a synchronous write from an after-commit callback off the finished transaction's
+ * connection.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    public enum OverflowPolicy {
+        /** Wait up to {@code offer-timeout} for space, then drop the entry. */
+        BLOCK,
+        /** Drop the entry immediately. */
+        DROP,
+        /** Write the entry synchronously on the calling thread. */
+        CALLER_RUNS
+    }
+
+    static final String INSERT_SQL = """
+            INSERT INTO audit_logs (action, entity_type, entity_id, details, trace_id, time_stamp)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int[] INSERT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP_WITH_TIMEZONE
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final boolean async;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration offerTimeout;
+    private final BlockingQueue<AuditLog> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    // Submitters hold the read lock from the running check to the offer; stop() takes the write
+    // lock to flip running, so nothing is queued after its final drain.
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${bandbooking.audit.async:true}") boolean async,
+                          @Value("${bandbooking.audit.queue-capacity:10000}") int queueCapacity,
+                          @Value("${bandbooking.audit.batch-size:200}") int batchSize,
+                          @Value("${bandbooking.audit.flush-interval:500ms}") Duration flushInterval,
+                          @Value("${bandbooking.audit.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy,
+                          @Value("${bandbooking.audit.offer-timeout:100ms}") Duration offerTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.async = async;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeout = offerTimeout;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    public void submit(AuditLog entry) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    private void enqueue(AuditLog entry) {
+        boolean accepting;
+        runningLock.readLock().lock();
+        try {
+            accepting = async && running;
+            if(accepting && (queue.offer(entry)
+                    || (overflowPolicy == OverflowPolicy.BLOCK && offerWithTimeout(entry)))) {
+                return;
+            }
+        } finally {
+            runningLock.readLock().unlock();
+        }
+
+        if(!accepting || overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            write(List.of(entry));
+        } else {
+            drop(entry);
+        }
+    }
+
+    private boolean offerWithTimeout(AuditLog entry) {
+        try {
+            return queue.offer(entry, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void start() {
+        if(!async || running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        runningLock.writeLock().lock();
+        try {
+            if(!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+        try {
+            worker.join(flushInterval.toMillis() + 5_000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<AuditLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for(int i = 0; i < remaining.size(); i += batchSize) {
+            write(remaining.subList(i, Math.min(i + batchSize, remaining.size())));
+        }
+        log.info("Audit writer stopped. flushedOnShutdown={}, dropped={}", remaining.size(), dropped.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the web server so requests finishing during shutdown still get queued and flushed.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while(running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if(!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<AuditLog> batch) throws InterruptedException {
+        AuditLog first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if(first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while(batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if(batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if(next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<AuditLog> entries) {
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for(AuditLog entry: entries) {
+            rows.add(new Object[]{
+                    entry.getAction(),
+                    entry.getEntityType(),
+                    entry.getEntityId(),
+                    entry.getDetails(),
+                    entry.getTraceId(),
+                    entry.getTimeStamp() == null ? null : entry.getTimeStamp().toOffsetDateTime()
+            });
+        }
+
+        try {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES));
+        } catch (DataAccessException ex) {
+            log.error("Failed to write {} audit log entries. error={}", entries.size(), ex.getMessage());
+        }
+    }
+
+    private void drop(AuditLog entry) {
+        long total = dropped.incrementAndGet();
+        if(total == 1 || total % 1000 == 0) {
+            log.warn("Audit queue full, dropping entries. action={}, traceId={}, droppedTotal={}",
+                    entry.getAction(), entry.getTraceId(), total);
+        }
+    }
+}
@@ -7,6 +7,10 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 
+/**
+ * Copies the submitting thread's MDC (trace ID) onto the thread that runs the task, for both
+ * the pooled and the virtual-thread executor.
+ */
 public class MdcPropagatingAsyncTaskExecutor implements AsyncTaskExecutor {
 
     private final AsyncTaskExecutor delegate;
@@ -40,13 +44,11 @@ public class MdcPropagatingAsyncTaskExecutor implements AsyncTaskExecutor {
     private Runnable wrap(Runnable task) {
         Map<String, String> context = MDC.getCopyOfContextMap();
         return () -> {
-            if (context != null) {
-                MDC.setContextMap(context);
-            }
+            Map<String, String> previous = apply(context);
             try {
                 task.run();
             } finally {
-                MDC.clear();
+                apply(previous);
             }
         };
     }
@@ -54,14 +56,24 @@ public class MdcPropagatingAsyncTaskExecutor implements AsyncTaskExecutor {
     private <T> Callable<T> wrap(Callable<T> task) {
         Map<String, String> context = MDC.getCopyOfContextMap();
         return () -> {
-            if (context != null) {
-                MDC.setContextMap(context);
-            }
+            Map<String, String> previous = apply(context);
             try {
                 return task.call();
             } finally {
-                MDC.clear();
+                apply(previous);
             }
         };
     }
+
+    // Tasks can run on the submitting thread (caller-runs, concurrency throttle) as well as on a
+    // fresh virtual thread, so the context the thread had before is put back instead of cleared.
+    private static Map<String, String> apply(Map<String, String> context) {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        if(context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+        return previous;
+    }
 }
@@ -1,52 +1,140 @@
 package com.jspss.bandbooking.logging;
 
-import jakarta.servlet.*;
+import com.jspss.bandbooking.exceptions.SqlBudgetExceededException;
+import com.jspss.bandbooking.sql.RequestSqlStats;
+import com.jspss.bandbooking.sql.SqlBudget;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Assigns the request's trace ID and logs one line per completed request.
+ * <p>
+ * The trace ID comes from an inbound {@code traceparent} header, else from {@code X-Trace-Id},
+ * else it is generated ({@link TraceIds}). It is put in the MDC for the duration of the request
+ * and echoed as {@code X-Trace-Id} on the response. The filter runs first in the chain so
+ * security and error handling log with the same ID.
+ * <p>
+ * Requests slower than {@code slow-threshold} and server errors are always logged, at WARN.
+ * Everything else is logged at INFO for a sample of requests: {@code sample-rate} by default,
+ * or the rate of the longest route prefix listed in {@code route-sample-rates}
+ * ({@code /api/search=0.001,/api/bookings=0.05}). Routes are the matched handler patterns,
+ * e.g. {@code /api/bands/{id}}, so all calls to one endpoint share a rate. Each line carries
+ * the number of SQL statements and the JDBC time of the request (see {@link SqlBudget}).
+ */
 @Slf4j
 @Component
-public class RequestLoggingFilter implements Filter {
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
 
+    private final SqlBudget sqlBudget;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final RoutePrefixMap<Double> routeSampleRates;
+
+    public RequestLoggingFilter(SqlBudget sqlBudget,
+                                @Value("${bandbooking.logging.request.slow-threshold:1s}") Duration slowThreshold,
+                                @Value("${bandbooking.logging.request.sample-rate:1.0}") double sampleRate,
+                                @Value("${bandbooking.logging.request.route-sample-rates:}") String routeSampleRates) {
+        this.sqlBudget = sqlBudget;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.routeSampleRates = RoutePrefixMap.parse(routeSampleRates, Double::valueOf);
+    }
 
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain filter) throws IOException, ServletException {
-        HttpServletRequest httpReq = (HttpServletRequest) request;
-        HttpServletResponse httpResp = (HttpServletResponse) response;
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filter) throws IOException, ServletException {
+        String traceId = resolveTraceId(request, response);
+        MDC.put(TraceIds.MDC_KEY, traceId);
+        response.setHeader(TraceIds.TRACE_ID_HEADER, traceId);
 
-        String traceId = MDC.get("traceId");
-        if(traceId == null) {
-            traceId = UUID.randomUUID().toString();
-            MDC.put("traceId", traceId);
+        if(request.getDispatcherType() == DispatcherType.ERROR) {
+            try {
+                filter.doFilter(request, response);
+            } finally {
+                MDC.remove(TraceIds.MDC_KEY);
+            }
+            return;
         }
 
-        long start = System.currentTimeMillis();
-
-        log.info("Incoming request. method={}, path={}, traceId={}",
-                httpReq.getMethod(),
-                httpReq.getRequestURI(),
-                traceId);
+        long start = System.nanoTime();
+        log.debug("Incoming request. method={}, path={}", request.getMethod(), request.getRequestURI());
+        RequestSqlStats sql = sqlBudget.begin();
+        boolean completed = false;
 
         try {
             filter.doFilter(request, response);
-        }finally {
-            long duration = System.currentTimeMillis() - start;
-            log.info("Completed request. method={}, path={}, status={}, duration={}, traceId={}",
-                    httpReq.getMethod(),
-                    httpReq.getRequestURI(),
-                    httpResp.getStatus(),
-                    duration,
-                    traceId
-            );
-
-            MDC.remove(traceId);
+            completed = true;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            String pattern = handlerPattern(request);
+            String route = pattern != null ? pattern : request.getRequestURI();
+            int status = response.getStatus();
+            int statements = sql != null ? sql.getStatements() : 0;
+            long sqlMillis = sql != null ? TimeUnit.NANOSECONDS.toMillis(sql.getJdbcNanos()) : 0;
+
+            try {
+                if(elapsed >= slowThresholdNanos || status >= 500) {
+                    log.warn("Slow or failed request. method={}, route={}, path={}, status={}, duration={}, statements={}, sqlTime={}",
+                            request.getMethod(), route, request.getRequestURI(), status,
+                            TimeUnit.NANOSECONDS.toMillis(elapsed), statements, sqlMillis);
+                } else if(log.isInfoEnabled() && sampled(route)) {
+                    log.info("Completed request. method={}, route={}, status={}, duration={}, statements={}, sqlTime={}",
+                            request.getMethod(), route, status, TimeUnit.NANOSECONDS.toMillis(elapsed), statements, sqlMillis);
+                }
+                sqlBudget.end(sql, request.getMethod(), pattern);
+            } catch (SqlBudgetExceededException ex) {
+                // Never replace the exception the chain is already propagating.
+                if(completed) {
+                    throw ex;
+                }
+                log.warn(ex.getMessage());
+            } finally {
+                MDC.remove(TraceIds.MDC_KEY);
+            }
+        }
+    }
+
+    // Error dispatches run through the filter again, reusing the ID already set on the response,
+    // so the error page logs with it. The request was logged by the original dispatch.
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    static String resolveTraceId(HttpServletRequest request, HttpServletResponse response) {
+        String traceId = TraceIds.fromTraceparent(request.getHeader(TraceIds.TRACEPARENT_HEADER));
+        if(traceId == null) {
+            traceId = TraceIds.fromHeader(request.getHeader(TraceIds.TRACE_ID_HEADER));
         }
+        if(traceId == null && request.getDispatcherType() == DispatcherType.ERROR) {
+            traceId = TraceIds.fromHeader(response.getHeader(TraceIds.TRACE_ID_HEADER));
+        }
+        return traceId != null ? traceId : TraceIds.generate();
+    }
+
+    boolean sampled(String route) {
+        double rate = routeSampleRates.get(route, sampleRate);
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
 
+    private static String handlerPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : null;
     }
 }
@@ -0,0 +1,47 @@
+package com.jspss.bandbooking.logging;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Per-route settings written as {@code /api/search=0.001,/api/bookings=0.05}. A route takes the
+ * value of the longest listed prefix it starts with, so {@code /api/bookings/export} can
+ * override {@code /api/bookings}.
+ */
+public final class RoutePrefixMap<T> {
+
+    private final Map<String, T> values;
+
+    private RoutePrefixMap(Map<String, T> values) {
+        this.values = values;
+    }
+
+    public static <T> RoutePrefixMap<T> parse(String value, Function<String, T> parser) {
+        Map<String, T> values = new TreeMap<>(
+                Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()));
+        if(value != null && !value.isBlank()) {
+            for(String part: value.split(",")) {
+                int eq = part.lastIndexOf('=');
+                if(eq <= 0) {
+                    throw new IllegalArgumentException("Invalid route setting: " + part);
+                }
+                values.put(part.substring(0, eq).trim(), parser.apply(part.substring(eq + 1).trim()));
+            }
+        }
+        return new RoutePrefixMap<>(values);
+    }
+
+    public T get(String route, T fallback) {
+        if(route == null) {
+            return fallback;
+        }
+        for(Map.Entry<String, T> entry: values.entrySet()) {
+            if(route.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,72 @@
+package com.jspss.bandbooking.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Trace IDs in the W3C trace-context format: 32 lowercase hex digits.
+ * <p>
+ * IDs are drawn from {@link ThreadLocalRandom}, which needs no locking and no entropy pool,
+ * unlike {@code UUID.randomUUID()}. They only have to be unique enough to correlate log lines,
+ * not unpredictable.
+ */
+public final class TraceIds {
+
+    public static final String MDC_KEY = "traceId";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final Pattern TRACEPARENT = Pattern.compile("[0-9a-f]{2}-([0-9a-f]{32})-[0-9a-f]{16}-[0-9a-f]{2}.*");
+    private static final Pattern CLIENT_ID = Pattern.compile("[A-Za-z0-9._-]{8,64}");
+    private static final String INVALID_TRACE = "00000000000000000000000000000000";
+
+    private TraceIds() {
+    }
+
+    public static String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        if(high == 0 && low == 0) {
+            low = 1;
+        }
+        char[] id = new char[32];
+        writeHex(high, id, 0);
+        writeHex(low, id, 16);
+        return new String(id);
+    }
+
+    /**
+     * @return the trace ID of a {@code traceparent} header, or null when it is missing or malformed
+     */
+    public static String fromTraceparent(String header) {
+        if(header == null) {
+            return null;
+        }
+        var matcher = TRACEPARENT.matcher(header.trim());
+        if(!matcher.matches() || matcher.group(1).equals(INVALID_TRACE)) {
+            return null;
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * @return the client-supplied ID if it is safe to log (8 to 64 letters, digits, '.', '_'
+     * or '-'), otherwise null
+     */
+    public static String fromHeader(String header) {
+        if(header == null) {
+            return null;
+        }
+        String id = header.trim();
+        return CLIENT_ID.matcher(id).matches() ? id : null;
+    }
+
+    private static void writeHex(long value, char[] out, int offset) {
+        for(int i = 15; i >= 0; i--) {
+            out[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.jspss.bandbooking.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Times the public methods of every {@code *ServiceImpl}, every mapper and {@code AuditLogger}
+ * (see {@link MethodTimingInterceptor}). The advice is placed in front of existing advisors,
+ * so service timings include the transaction around the call.
+ * <p>
+ * Repository calls are timed by Spring Data's own {@code spring.data.repository.invocations}
+ * metric, and the HTTP layer by {@code http.server.requests}.
+ */
+@Component
+public class MethodMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public MethodMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new TimedMethods(), new MethodTimingInterceptor(meterRegistry));
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    private static final class TimedMethods extends StaticMethodMatcherPointcut {
+
+        TimedMethods() {
+            setClassFilter(type -> isTimed(ClassUtils.getUserClass(type)));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers())
+                    && !Modifier.isStatic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class;
+        }
+
+        private static boolean isTimed(Class<?> type) {
+            return type.getPackageName().startsWith("com.jspss.bandbooking")
+                    && !MethodTimingInterceptor.layer(type).equals("other");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.jspss.bandbooking.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records every call as a {@value #TIMER} timer tagged with the layer, the operation
+ * ({@code Class.method}), the outcome and, for failures, the exception type. Timers are looked
+ * up once per method and outcome and cached, so a call costs two clock reads and a record.
+ */
+class MethodTimingInterceptor implements MethodInterceptor {
+
+    static final String TIMER = "bandbooking.method";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Key, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    MethodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if(registry == null || invocation.getThis() == null) {
+            return invocation.proceed();
+        }
+
+        MethodTimers methodTimers = timers.computeIfAbsent(
+                new Key(ClassUtils.getUserClass(invocation.getThis()), invocation.getMethod()),
+                key -> new MethodTimers(registry, key));
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            methodTimers.error(ex.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    static String layer(Class<?> type) {
+        String name = type.getSimpleName();
+        if(name.endsWith("ServiceImpl")) return "service";
+        if(name.endsWith("Mapper")) return "mapper";
+        if(name.equals("AuditLogger")) return "audit";
+        return "other";
+    }
+
+    private record Key(Class<?> type, Method method) {
+    }
+
+    private static final class MethodTimers {
+
+        private final MeterRegistry registry;
+        private final String layer;
+        private final String operation;
+        private final Timer success;
+        private final Map<Class<?>, Timer> errors = new ConcurrentHashMap<>();
+
+        private MethodTimers(MeterRegistry registry, Key key) {
+            this.registry = registry;
+            this.layer = layer(key.type());
+            this.operation = key.type().getSimpleName() + "." + key.method().getName();
+            this.success = timer("success", "none");
+        }
+
+        private Timer error(Class<?> exception) {
+            return errors.computeIfAbsent(exception, type -> timer("error", type.getSimpleName()));
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(TIMER)
+                    .description("Time spent in service, mapper and audit methods")
+                    .tag("layer", layer)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jspss.bandbooking.metrics;
+
+import com.jspss.bandbooking.cache.ReferenceDataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+
+/**
+ * Publishes hit, miss and size metrics of the second-level cache regions. The regions belong
+ * to Hibernate's JCache manager, which Spring's cache metrics do not see, so they are bound
+ * here once the application is up and Hibernate has created them.
+ */
+@Slf4j
+@Component
+public class ReferenceCacheMetrics {
+
+    private static final List<String> REGIONS = List.of(
+            ReferenceDataCache.INSTRUMENT_REGION,
+            ReferenceDataCache.MUSIC_STYLE_REGION,
+            ReferenceDataCache.QUERY_REGION
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final String cachingProvider;
+
+    public ReferenceCacheMetrics(MeterRegistry meterRegistry,
+                                 @Value("${spring.jpa.properties.hibernate.javax.cache.provider:}") String cachingProvider) {
+        this.meterRegistry = meterRegistry;
+        this.cachingProvider = cachingProvider;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bind() {
+        if(cachingProvider.isBlank()) {
+            return;
+        }
+        CacheManager cacheManager = Caching.getCachingProvider(cachingProvider).getCacheManager();
+        for(String region: REGIONS) {
+            Cache<Object, Object> cache = cacheManager.getCache(region);
+            if(cache == null) {
+                log.warn("Cache region not found, no metrics bound. region={}", region);
+                continue;
+            }
+            JCacheMetrics.monitor(meterRegistry, cache);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.jspss.bandbooking.pagination;
+
+public enum BookingSortOrder {
+    Id,
+    GigStarts
+}
@@ -0,0 +1,85 @@
+package com.jspss.bandbooking.pagination;
+
+import com.jspss.bandbooking.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe cursors. Clients only echo them back, so the
+ * format can change without breaking the API.
+ */
+public final class CursorCodec {
+
+    public record TimeKey(ZonedDateTime at, long id) {
+    }
+
+    private static final String ID_PREFIX = "i:";
+    private static final String TIME_PREFIX = "t:";
+
+    private CursorCodec() {
+    }
+
+    public static String encodeId(long id) {
+        return encode(ID_PREFIX + id);
+    }
+
+    public static Long decodeId(String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = decode(cursor);
+        if(!raw.startsWith(ID_PREFIX)) {
+            throw invalid();
+        }
+        try {
+            return Long.parseLong(raw.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException ex) {
+            throw invalid();
+        }
+    }
+
+    public static String encodeTime(ZonedDateTime at, long id) {
+        Instant instant = at.toInstant();
+        return encode(TIME_PREFIX + instant.getEpochSecond() + ":" + instant.getNano() + ":" + id);
+    }
+
+    public static TimeKey decodeTime(String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = decode(cursor);
+        if(!raw.startsWith(TIME_PREFIX)) {
+            throw invalid();
+        }
+        String[] parts = raw.substring(TIME_PREFIX.length()).split(":");
+        if(parts.length != 3) {
+            throw invalid();
+        }
+        try {
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new TimeKey(instant.atZone(ZoneOffset.UTC), Long.parseLong(parts[2]));
+        } catch (RuntimeException ex) {
+            throw invalid();
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw invalid();
+        }
+    }
+
+    private static BadRequestException invalid() {
+        return new BadRequestException("Invalid cursor.");
+    }
+}
@@ -0,0 +1,24 @@
+package com.jspss.bandbooking.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageSizeLimits {
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public PageSizeLimits(@Value("${bandbooking.pagination.default-page-size:50}") int defaultSize,
+                          @Value("${bandbooking.pagination.max-page-size:200}") int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.defaultSize = Math.min(Math.max(1, defaultSize), this.maxSize);
+    }
+
+    public int resolve(Integer requested) {
+        if(requested == null || requested < 1) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+}
@@ -2,15 +2,59 @@ package com.jspss.bandbooking.repositories;
 
 import com.jspss.bandbooking.entities.Band;
 import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.typeahead.NameEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BandRepository extends JpaRepository<Band, Long> {
     List<Band> findByBandName(String query);
-    List<Band> findByBandNameContainingIgnoreCase(String query);
     boolean existsByBandNameIgnoreCase(String bandName);
 
+    // Members are fetched in the same query; styles and instruments load in @BatchSize batches.
+    @Override
+    @EntityGraph(Band.WITH_MEMBERS)
+    List<Band> findAll();
+
+    // ILIKE on the bare column so the trigram index on band_name applies.
+    @EntityGraph(Band.WITH_MEMBERS)
+    @Query("SELECT b FROM Band b WHERE b.bandName ILIKE CONCAT('%', :query, '%')")
+    List<Band> findByBandNameContainingIgnoreCase(@Param("query") String query);
+
+    // Lets a conditional GET be answered from the primary key index without loading the band.
+    @Query("SELECT b.version FROM Band b WHERE b.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // No entity graph here: a collection fetch join would make Hibernate apply the limit in memory.
+    List<Band> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT new com.jspss.bandbooking.typeahead.NameEntry(b.id, b.bandName) FROM Band b")
+    List<NameEntry> findAllNames();
+
+    // Typeahead fallback: every word must start a word of the name (words split on anything but letters
+    // and digits), ordered by the matched word like the index. Served by the trigram index on band_name.
+    // The words contain only letters and digits, so they need no regex escaping.
+    @Query(value = """
+        SELECT b.id AS id, b.band_name AS name
+        FROM band b
+        WHERE b.band_name ~* CONCAT('(^|\\W|_)', :word)
+          AND NOT EXISTS (
+              SELECT 1 FROM regexp_split_to_table(:others, ' ') o
+              WHERE o <> '' AND b.band_name !~* CONCAT('(^|\\W|_)', o))
+        ORDER BY (SELECT min(lower(w)) FROM regexp_split_to_table(b.band_name, '(\\W|_)+') w
+                  WHERE starts_with(lower(w), lower(:word))) COLLATE "C",
+                 lower(b.band_name) COLLATE "C", b.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<NameEntry> findNamesMatchingWords(@Param("word") String word,
+                                           @Param("others") String others,
+                                           @Param("limit") int limit);
+
 }
@@ -1,22 +1,62 @@
 package com.jspss.bandbooking.repositories;
 
+import com.jspss.bandbooking.assignment.MusicianBusyWindow;
+import com.jspss.bandbooking.availability.BookingWindow;
+import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
 import com.jspss.bandbooking.entities.Booking;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findByBand_Id(Long bandId);
-    List<Booking> findByMusicianList_Id(Long musicianId);
+    /**
+     * Selects exactly the {@link BookingSummaryDTO} columns, joining client and band in the
+     * same statement instead of loading them lazily per booking.
+     */
+    String SUMMARY_SELECT = """
+        SELECT new com.jspss.bandbooking.dto.summaries.BookingSummaryDTO(
+            b.id, c.id, c.name, ba.id, ba.bandName, b.bookingStatus, b.gigStarts, b.gigEnds)
+        FROM Booking b
+        LEFT JOIN b.client c
+        LEFT JOIN b.band ba
+    """;
+
+    @Query(SUMMARY_SELECT + """
+        WHERE ba.id = :bandId
+        ORDER BY b.gigStarts, b.id
+    """)
+    List<BookingSummaryDTO> findSummariesByBandId(@Param("bandId") Long bandId);
+
+    @Query(SUMMARY_SELECT + """
+        JOIN b.musicianList m
+        WHERE m.id = :musicianId
+        ORDER BY b.gigStarts, b.id
+    """)
+    List<BookingSummaryDTO> findSummariesByMusicianId(@Param("musicianId") Long musicianId);
+
+    @Query(SUMMARY_SELECT + """
+        WHERE c.id = :clientId
+        ORDER BY b.gigStarts, b.id
+    """)
+    List<BookingSummaryDTO> findSummariesByClientId(@Param("clientId") Long clientId);
 
     @Query("""
         SELECT b FROM Booking b
         WHERE b.band.id = :bandId
+        AND b.bookingStatus <> 'Cancelled'
         AND (
             (b.gigStarts <= :end AND b.gigEnds >= :start)
         )
@@ -31,5 +71,62 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 """)
     List<Booking> findMusicianConflicts(Long id, ZonedDateTime gigStarts, ZonedDateTime gigEnds);
 
-    List<Booking> findByClient_Id(Long id);
+    @Query("""
+        SELECT new com.jspss.bandbooking.availability.BookingWindow(b.id, b.band.id, b.gigStarts, b.gigEnds)
+        FROM Booking b
+        WHERE b.bookingStatus <> 'Cancelled'
+    """)
+    List<BookingWindow> findActiveBookingWindows();
+
+    @Query("""
+        SELECT new com.jspss.bandbooking.availability.BookingWindow(b.id, b.band.id, b.gigStarts, b.gigEnds)
+        FROM Booking b
+        WHERE b.band.id IN :bandIds
+        AND b.bookingStatus <> 'Cancelled'
+        AND b.gigStarts <= :to AND b.gigEnds >= :from
+    """)
+    List<BookingWindow> findActiveBookingWindows(@Param("bandIds") Collection<Long> bandIds,
+                                                 @Param("from") ZonedDateTime from,
+                                                 @Param("to") ZonedDateTime to);
+
+    List<Booking> findByBookingStatusAndGigStartsBetweenOrderByGigStarts(BookingStatus status,
+                                                                         ZonedDateTime from,
+                                                                         ZonedDateTime to);
+
+    @Query("""
+        SELECT new com.jspss.bandbooking.assignment.MusicianBusyWindow(m.id, b.gigStarts, b.gigEnds)
+        FROM Booking b
+        JOIN b.musicianList m
+        WHERE m.id IN :musicianIds
+        AND b.bookingStatus <> 'Cancelled'
+        AND (b.gigStarts < :to AND b.gigEnds > :from)
+    """)
+    List<MusicianBusyWindow> findMusicianBusyWindows(@Param("musicianIds") Collection<Long> musicianIds,
+                                                     @Param("from") ZonedDateTime from,
+                                                     @Param("to") ZonedDateTime to);
+
+    List<Booking> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Booking> findAllByOrderByGigStartsAscIdAsc(Limit limit);
+
+    @Query("""
+        SELECT b FROM Booking b
+        WHERE b.gigStarts > :gigStarts
+           OR (b.gigStarts = :gigStarts AND b.id > :id)
+        ORDER BY b.gigStarts, b.id
+    """)
+    List<Booking> findPageAfterGigStarts(@Param("gigStarts") ZonedDateTime gigStarts,
+                                         @Param("id") Long id,
+                                         Limit limit);
+
+    /**
+     * Every booking as a summary row, read through a server-side cursor. Must be consumed
+     * inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + "ORDER BY b.id")
+    Stream<BookingSummaryDTO> streamAllSummaries();
 }
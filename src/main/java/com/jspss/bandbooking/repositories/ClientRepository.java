@@ -1,20 +1,25 @@
 package com.jspss.bandbooking.repositories;
 
 import com.jspss.bandbooking.entities.Client;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
+    // ILIKE on the bare columns so the trigram indexes on name and email apply.
     @Query("""
     SELECT c FROM Client c
-    WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :query, '%'))
-       OR LOWER(c.email) LIKE LOWER(CONCAT('%', :query, '%'))
+    WHERE c.name ILIKE CONCAT('%', :query, '%')
+       OR c.email ILIKE CONCAT('%', :query, '%')
 """)
-    List<Client> searchClients(String query);
+    List<Client> searchClients(@Param("query") String query);
 
-    List<Client> findByNameContainingIgnoreCase(String query);
+    @Query("SELECT c FROM Client c WHERE c.name ILIKE CONCAT('%', :query, '%')")
+    List<Client> findByNameContainingIgnoreCase(@Param("query") String query);
+    List<Client> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
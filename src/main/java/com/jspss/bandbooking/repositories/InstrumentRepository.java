@@ -1,9 +1,12 @@
 package com.jspss.bandbooking.repositories;
 
+import com.jspss.bandbooking.cache.ReferenceDataCache;
 import com.jspss.bandbooking.entities.Instrument;
-import com.jspss.bandbooking.entities.MusicStyle;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,13 +15,37 @@ import java.util.List;
 @Repository
 public interface InstrumentRepository extends JpaRepository<Instrument, Long> {
     List<Instrument> id(Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
     boolean existsByNameIgnoreCase(String string);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
     List<Instrument> findByNameContainingIgnoreCase(String query);
 
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
+    List<Instrument> findAll();
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
+    List<Instrument> findAllById(Iterable<Long> ids);
+
     @Query(value = """
         SELECT * FROM instrument
         WHERE name % :query
         ORDER BY similarity(name, :query)
     """, nativeQuery = true)
-    List<MusicStyle> fuzzySearch(@Param("query") String query);
+    List<Instrument> fuzzySearch(@Param("query") String query);
 }
@@ -1,8 +1,12 @@
 package com.jspss.bandbooking.repositories;
 
+import com.jspss.bandbooking.cache.ReferenceDataCache;
 import com.jspss.bandbooking.entities.MusicStyle;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,9 +14,32 @@ import java.util.List;
 
 @Repository
 public interface MusicStyleRepository extends JpaRepository<MusicStyle, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
     List<MusicStyle> findByNameContainingIgnoreCase(String query);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
     boolean existsByNameIgnoreCase(String string);
 
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
+    List<MusicStyle> findAll();
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
+    List<MusicStyle> findAllById(Iterable<Long> ids);
+
     @Query(value = """
              SELECT * FROM music_style
              WHERE name % :query
@@ -2,12 +2,18 @@ package com.jspss.bandbooking.repositories;
 
 import com.jspss.bandbooking.entities.MusicStyle;
 import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.typeahead.NameEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,7 +24,18 @@ public interface MusicianRepository extends JpaRepository<Musician, Long> {
     List<Musician> findByMusicStyles_Id(Long styleId);
     List<Musician> findByFullName(String fullName);
 
+    // Rows are locked in ID order so concurrent bulk runs cannot deadlock on each other.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Musician m WHERE m.id IN :ids ORDER BY m.id")
+    List<Musician> lockAllById(@Param("ids") Collection<Long> ids);
 
+    // No entity graph here: a collection fetch join would make Hibernate apply the limit in memory.
+    List<Musician> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Instruments are fetched in the same query; the other collections load in @BatchSize batches.
+    @Override
+    @EntityGraph(Musician.WITH_INSTRUMENTS)
+    List<Musician> findAll();
 
     @Query("""
         SELECT m FROM Musician m
@@ -31,6 +48,7 @@ public interface MusicianRepository extends JpaRepository<Musician, Long> {
                 AND (bk.gigStarts < :end AND bk.gigEnds > :start)
             )
     """)
+    @EntityGraph(Musician.WITH_INSTRUMENTS)
     List<Musician> findAvailableMusicians(@Param("bandId") Long bandId,
                                           @Param("start")ZonedDateTime start,
                                           @Param("end")ZonedDateTime end);
@@ -62,4 +80,26 @@ public interface MusicianRepository extends JpaRepository<Musician, Long> {
     """, nativeQuery = true)
     List<Musician> fuzzySearch(@Param("query") String query);
 
+    @Query("SELECT new com.jspss.bandbooking.typeahead.NameEntry(m.id, m.fullName) FROM Musician m")
+    List<NameEntry> findAllNames();
+
+    // Typeahead fallback: every word must start a word of the name (words split on anything but letters
+    // and digits), ordered by the matched word like the index. Served by the trigram index on full_name.
+    // The words contain only letters and digits, so they need no regex escaping.
+    @Query(value = """
+        SELECT m.id AS id, m.full_name AS name
+        FROM musician m
+        WHERE m.full_name ~* CONCAT('(^|\\W|_)', :word)
+          AND NOT EXISTS (
+              SELECT 1 FROM regexp_split_to_table(:others, ' ') o
+              WHERE o <> '' AND m.full_name !~* CONCAT('(^|\\W|_)', o))
+        ORDER BY (SELECT min(lower(w)) FROM regexp_split_to_table(m.full_name, '(\\W|_)+') w
+                  WHERE starts_with(lower(w), lower(:word))) COLLATE "C",
+                 lower(m.full_name) COLLATE "C", m.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<NameEntry> findNamesMatchingWords(@Param("word") String word,
+                                           @Param("others") String others,
+                                           @Param("limit") int limit);
+
 }
@@ -0,0 +1,72 @@
+package com.jspss.bandbooking.retry;
+
+import com.jspss.bandbooking.exceptions.ConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read-modify-write in its own transaction and replays it when a concurrent writer
+ * bumped the {@code @Version} of the same entity first.
+ * <p>
+ * Each attempt reloads the entity, so a retried change is applied on top of the other
+ * writer's instead of overwriting it. Attempts back off with jitter; when they are used up
+ * the caller gets a {@link ConflictException} (409). Inside an existing transaction the work
+ * runs once, since only the outermost transaction can be replayed.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transaction;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager,
+                               @Value("${bandbooking.retry.optimistic-lock.max-attempts:3}") int maxAttempts,
+                               @Value("${bandbooking.retry.optimistic-lock.backoff:20ms}") Duration backoff) {
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoff = backoff;
+    }
+
+    public <T> T execute(String entityType, Object id, Supplier<T> work) {
+        if(TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        for(int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException ex) {
+                if(attempt >= maxAttempts) {
+                    log.warn("Concurrent update not resolved. entity={}, id={}, attempts={}", entityType, id, attempt);
+                    throw new ConflictException(entityType + " ID(" + id + ") was modified concurrently, please retry.");
+                }
+                log.debug("Concurrent update, retrying. entity={}, id={}, attempt={}", entityType, id, attempt);
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        long millis = backoff.toMillis() * attempt;
+        if(millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis + ThreadLocalRandom.current().nextLong(millis));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while retrying a concurrent update.");
+        }
+    }
+}
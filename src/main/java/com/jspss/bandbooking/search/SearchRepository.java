@@ -0,0 +1,70 @@
+package com.jspss.bandbooking.search;
+
+import com.jspss.bandbooking.dto.responses.SearchResultDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Ranks matches across every searchable table in a single statement. Each branch is cut to
+ * the result limit on its own, using the trigram index on its column, before the branches
+ * are merged, so the cost depends on the limit rather than on table sizes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+
+    static final String SEARCH_SQL = """
+            SELECT type, id, label, score FROM (
+                (SELECT 'Band' AS type, id, band_name AS label, similarity(band_name, :query) AS score
+                 FROM band
+                 WHERE band_name % :query OR band_name ILIKE :pattern
+                 ORDER BY score DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 'Musician', id, full_name, similarity(full_name, :query) AS score
+                 FROM musician
+                 WHERE full_name % :query OR full_name ILIKE :pattern
+                 ORDER BY score DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 'Client', id, name, GREATEST(similarity(name, :query), similarity(email, :query)) AS score
+                 FROM client
+                 WHERE name % :query OR email % :query OR name ILIKE :pattern OR email ILIKE :pattern
+                 ORDER BY score DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 'Instrument', id, name, similarity(name, :query) AS score
+                 FROM instrument
+                 WHERE name % :query OR name ILIKE :pattern
+                 ORDER BY score DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 'MusicStyle', id, name, similarity(name, :query) AS score
+                 FROM music_style
+                 WHERE name % :query OR name ILIKE :pattern
+                 ORDER BY score DESC LIMIT :limit)
+            ) AS matches
+            ORDER BY score DESC, type, id
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<SearchResultDTO> search(String query, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("pattern", "%" + escapeLike(query) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SEARCH_SQL, params, (rs, row) -> new SearchResultDTO(
+                SearchResultType.valueOf(rs.getString("type")),
+                rs.getLong("id"),
+                rs.getString("label"),
+                rs.getDouble("score")
+        ));
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
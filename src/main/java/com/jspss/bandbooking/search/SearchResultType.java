@@ -0,0 +1,9 @@
+package com.jspss.bandbooking.search;
+
+public enum SearchResultType {
+    Band,
+    Musician,
+    Client,
+    Instrument,
+    MusicStyle
+}
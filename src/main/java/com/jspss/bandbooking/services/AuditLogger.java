@@ -1,7 +1,7 @@
 package com.jspss.bandbooking.services;
 
 import com.jspss.bandbooking.entities.AuditLog;
-import com.jspss.bandbooking.repositories.AuditLogRepository;
+import com.jspss.bandbooking.logging.AuditLogWriter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
@@ -12,8 +12,9 @@ import java.time.ZonedDateTime;
 @RequiredArgsConstructor
 public class AuditLogger {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
 
+    // Trace ID and timestamp are captured here, on the request thread, before the entry is queued.
     public void log(String action, String entityType, Long entityId, String details){
         AuditLog log = new AuditLog();
         log.setAction(action);
@@ -23,6 +24,6 @@ public class AuditLogger {
         log.setTraceId(MDC.get("traceId"));
         log.setTimeStamp(ZonedDateTime.now());
 
-        auditLogRepository.save(log);
+        auditLogWriter.submit(log);
     }
 }
@@ -1,16 +1,22 @@
 package com.jspss.bandbooking.services;
 
 import com.jspss.bandbooking.dto.requests.updates.UpdateBandRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
+import com.jspss.bandbooking.dto.responses.SuggestionDTO;
 import com.jspss.bandbooking.entities.Band;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface BandService {
     Band getBand(Long id);
+    Optional<Long> findBandVersion(Long id);
     List<Band> getAllBands();
+    CursorPageDTO<Band> getBandPage(String cursor, int limit);
     Band createBand(String bandName);
     Band updateBand(Long id, UpdateBandRequest request);
     List<Band> searchBands(String bandName);
+    List<SuggestionDTO> suggestBands(String prefix, Integer limit);
     Band addMusician(Long bandId, Long musicianId);
     Band removeMusician(Long bandId, Long musicianId);
     Band addMusicStyle(Long bandId, Long styleId);
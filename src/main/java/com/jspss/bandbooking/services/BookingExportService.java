@@ -0,0 +1,10 @@
+package com.jspss.bandbooking.services;
+
+import com.jspss.bandbooking.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BookingExportService {
+    long exportBookings(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -1,9 +1,12 @@
 package com.jspss.bandbooking.services;
 
+import com.jspss.bandbooking.dto.requests.AvailabilityWindow;
 import com.jspss.bandbooking.dto.requests.updates.UpdateBookingStatus;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
 import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
 import com.jspss.bandbooking.entities.Booking;
 import com.jspss.bandbooking.entities.enums.BookingStatus;
+import com.jspss.bandbooking.pagination.BookingSortOrder;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -23,11 +26,14 @@ public interface BookingService {
                             ZonedDateTime start,
                             ZonedDateTime end);
 
+    List<List<Boolean>> checkAvailability(List<Long> bandIds, List<AvailabilityWindow> windows);
+
     Booking updateStatus(Long bookingId, BookingStatus status);
     Booking cancelBooking(Long bookingId);
 
     Booking getBooking(Long bookingId);
     List<Booking> getAllBookings();
+    CursorPageDTO<Booking> getBookingPage(String cursor, int limit, BookingSortOrder sort);
 
     List<BookingSummaryDTO> getBookingsForBand(Long bandId);
 
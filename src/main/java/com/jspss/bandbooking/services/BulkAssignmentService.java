@@ -0,0 +1,9 @@
+package com.jspss.bandbooking.services;
+
+import com.jspss.bandbooking.dto.responses.BulkAssignmentResponseDTO;
+
+import java.time.ZonedDateTime;
+
+public interface BulkAssignmentService {
+    BulkAssignmentResponseDTO assignPendingBookings(ZonedDateTime from, ZonedDateTime to);
+}
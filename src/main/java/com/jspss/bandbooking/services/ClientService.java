@@ -1,6 +1,7 @@
 package com.jspss.bandbooking.services;
 
 import com.jspss.bandbooking.dto.requests.updates.UpdateClientRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
 import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
 import com.jspss.bandbooking.entities.Booking;
 import com.jspss.bandbooking.entities.Client;
@@ -10,6 +11,7 @@ import java.util.List;
 public interface ClientService {
     Client getClient(Long id);
     List<Client> getAllClients();
+    CursorPageDTO<Client> getClientPage(String cursor, int limit);
     List<Client> searchClients(String query);
     Client createClient(String name, String email, String phoneNumber);
     Client updateClient(Long id, UpdateClientRequest request);
@@ -1,6 +1,8 @@
 package com.jspss.bandbooking.services;
 
 import com.jspss.bandbooking.dto.requests.updates.UpdateMusicianRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
+import com.jspss.bandbooking.dto.responses.SuggestionDTO;
 import com.jspss.bandbooking.entities.Musician;
 import jakarta.validation.Valid;
 
@@ -9,7 +11,9 @@ import java.util.List;
 public interface MusicianService {
     Musician getMusician(Long id);
     List<Musician> getAllMusicians();
+    CursorPageDTO<Musician> getMusicianPage(String cursor, int limit);
     List<Musician> searchMusicians(String query);
+    List<SuggestionDTO> suggestMusicians(String prefix, Integer limit);
     Musician createMusician(String fullName);
     List<Musician> createMusicians(List<String> fullNameList);
     Musician updateMusician(Long id, @Valid UpdateMusicianRequest request);
@@ -0,0 +1,9 @@
+package com.jspss.bandbooking.services;
+
+import com.jspss.bandbooking.dto.responses.SearchResultDTO;
+
+import java.util.List;
+
+public interface SearchService {
+    List<SearchResultDTO> search(String query, Integer limit);
+}
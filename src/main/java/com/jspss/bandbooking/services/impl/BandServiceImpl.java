@@ -1,28 +1,39 @@
 package com.jspss.bandbooking.services.impl;
 
+import com.jspss.bandbooking.availability.BandAvailabilityIndex;
 import com.jspss.bandbooking.dto.requests.updates.UpdateBandRequest;
 import com.jspss.bandbooking.dto.responses.BandResponseDTO;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
+import com.jspss.bandbooking.dto.responses.SuggestionDTO;
 import com.jspss.bandbooking.entities.Band;
 import com.jspss.bandbooking.entities.Instrument;
 import com.jspss.bandbooking.entities.MusicStyle;
 import com.jspss.bandbooking.entities.Musician;
 import com.jspss.bandbooking.exceptions.BadRequestException;
 import com.jspss.bandbooking.exceptions.NotFoundException;
+import com.jspss.bandbooking.pagination.CursorCodec;
 import com.jspss.bandbooking.repositories.BandRepository;
 import com.jspss.bandbooking.repositories.InstrumentRepository;
 import com.jspss.bandbooking.repositories.MusicStyleRepository;
 import com.jspss.bandbooking.repositories.MusicianRepository;
+import com.jspss.bandbooking.retry.OptimisticLockRetry;
 import com.jspss.bandbooking.services.AuditLogger;
 import com.jspss.bandbooking.services.BandService;
+import com.jspss.bandbooking.typeahead.NameEntry;
+import com.jspss.bandbooking.typeahead.TypeaheadIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.MissingResourceException;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +44,9 @@ public class BandServiceImpl implements BandService {
     private final MusicianRepository musicianRepository;
     private final InstrumentRepository instrumentRepository;
     private final AuditLogger auditLogger;
+    private final BandAvailabilityIndex bandAvailabilityIndex;
+    private final TypeaheadIndex typeaheadIndex;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     @Override
     public Band getBand(Long id) {
@@ -40,11 +54,23 @@ public class BandServiceImpl implements BandService {
                 .orElseThrow(()->new NotFoundException("Band not found"));
     }
 
+    @Override
+    public Optional<Long> findBandVersion(Long id) {
+        return bandRepository.findVersionById(id);
+    }
+
     @Override
     public List<Band> getAllBands() {
         return bandRepository.findAll();
     }
 
+    @Override
+    public CursorPageDTO<Band> getBandPage(String cursor, int limit) {
+        Long after = CursorCodec.decodeId(cursor);
+        List<Band> rows = bandRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(limit + 1));
+        return CursorPageDTO.of(rows, limit, row -> CursorCodec.encodeId(row.getId()));
+    }
+
     @Override
     public Band createBand(String bandName) {
         String cleaned = bandName.trim();
@@ -55,6 +81,7 @@ public class BandServiceImpl implements BandService {
         Band band = new Band();
         band.setBandName(capitalize(normalized));
         bandRepository.save(band);
+        typeaheadIndex.recordBand(band);
 
         auditLogger.log(
                 "CREATE_BAND",
@@ -68,47 +95,50 @@ public class BandServiceImpl implements BandService {
 
     @Override
     public Band updateBand(Long id, UpdateBandRequest request) {
-        Band band = bandRepository.findById(id)
-                        .orElseThrow(()-> new RuntimeException("Band not found"));
-
-        String before = band.toString();
-
-        if(request.name() != null)
-            band.setBandName(request.name());
-
-        List<Musician> lineUp = request.musicianIdList().stream()
-                .map(musicianId -> musicianRepository.findById(musicianId)
-                        .orElseThrow(()-> new RuntimeException("Musician Not found: ID(" + musicianId + ")"))).toList();
-        band.setBandMembers(lineUp);
-
-        List<MusicStyle> musicStyles = request.musicStyleIdList().stream()
-                .map(styleId -> musicStyleRepository
-                        .findById(styleId)
-                        .orElseThrow(()-> new RuntimeException("Music Style not found: ID(" + styleId + ")")))
-                .toList();
-        band.setMusicStyles(musicStyles);
-
-        List<Instrument> requiredInstruments = request.requiredInstrumentsIdList()
-                .stream().map(instrId -> instrumentRepository
-                        .findById(instrId)
-                        .orElseThrow(()-> new RuntimeException("Instrument not found: ID(" + instrId +")")))
-                .toList();
-        band.setRequiredInstruments(requiredInstruments);
-
-        validateStructure(musicStyles, lineUp, requiredInstruments);
-        validateStyleCompatibility(musicStyles, lineUp);
-        validateInstrumentCoverage(requiredInstruments, lineUp);
-        bandRepository.save(band);
-
-        String after = band.toString();
-
-        auditLogger.log(
-                "UPDATE_BAND",
-                "Band",
-                id,
-                "Before: " + before + " | After: " + after
-        );
-        return band;
+        return optimisticLockRetry.execute("Band", id, () -> {
+            Band band = bandRepository.findById(id)
+                            .orElseThrow(()-> new RuntimeException("Band not found"));
+
+            String before = band.toString();
+
+            if(request.name() != null)
+                band.setBandName(request.name());
+
+            List<Musician> lineUp = request.musicianIdList().stream()
+                    .map(musicianId -> musicianRepository.findById(musicianId)
+                            .orElseThrow(()-> new RuntimeException("Musician Not found: ID(" + musicianId + ")"))).toList();
+            replaceContents(band.getBandMembers(), lineUp);
+
+            List<MusicStyle> musicStyles = request.musicStyleIdList().stream()
+                    .map(styleId -> musicStyleRepository
+                            .findById(styleId)
+                            .orElseThrow(()-> new RuntimeException("Music Style not found: ID(" + styleId + ")")))
+                    .toList();
+            replaceContents(band.getMusicStyles(), musicStyles);
+
+            List<Instrument> requiredInstruments = request.requiredInstrumentsIdList()
+                    .stream().map(instrId -> instrumentRepository
+                            .findById(instrId)
+                            .orElseThrow(()-> new RuntimeException("Instrument not found: ID(" + instrId +")")))
+                    .toList();
+            replaceContents(band.getRequiredInstruments(), requiredInstruments);
+
+            validateStructure(musicStyles, lineUp, requiredInstruments);
+            validateStyleCompatibility(musicStyles, lineUp);
+            validateInstrumentCoverage(requiredInstruments, lineUp);
+            bandRepository.saveAndFlush(band);
+            typeaheadIndex.recordBand(band);
+
+            String after = band.toString();
+
+            auditLogger.log(
+                    "UPDATE_BAND",
+                    "Band",
+                    id,
+                    "Before: " + before + " | After: " + after
+            );
+            return band;
+        });
     }
 
     @Override
@@ -120,149 +150,175 @@ public class BandServiceImpl implements BandService {
     }
 
     @Override
-    public Band addMusician(Long bandId, Long musicianId) {
-        Band band = bandRepository.findById(bandId)
-                .orElseThrow(()-> new RuntimeException("Band not found"));
-        Musician musicianToAdd = musicianRepository.findById(musicianId)
-                .orElseThrow(()-> new RuntimeException("Musician not found."));
-
-        if (band.getBandMembers().contains(musicianToAdd)) {
-            throw new BadRequestException("Musician is already a member of this band");
+    public List<SuggestionDTO> suggestBands(String prefix, Integer limit) {
+        if(prefix == null || prefix.isBlank()) {
+            return List.of();
         }
+        int max = typeaheadIndex.resolveLimit(limit);
+        List<NameEntry> names = typeaheadIndex.isReady()
+                ? typeaheadIndex.suggestBands(prefix, max)
+                : typeaheadIndex.fallbackBands(prefix, max);
+        return names.stream().map(n -> new SuggestionDTO(n.id(), n.name())).toList();
+    }
 
-        band.getBandMembers().add(musicianToAdd);
+    @Override
+    public Band addMusician(Long bandId, Long musicianId) {
+        return optimisticLockRetry.execute("Band", bandId, () -> {
+            Band band = bandRepository.findById(bandId)
+                    .orElseThrow(()-> new RuntimeException("Band not found"));
+            Musician musicianToAdd = musicianRepository.findById(musicianId)
+                    .orElseThrow(()-> new RuntimeException("Musician not found."));
+
+            if (band.getBandMembers().contains(musicianToAdd)) {
+                throw new BadRequestException("Musician is already a member of this band");
+            }
 
-        bandRepository.save(band);
+            band.getBandMembers().add(musicianToAdd);
 
-        auditLogger.log(
-                "ADD_MUSICIAN",
-                "Band",
-                bandId,
-                "Musician ID:" + musicianToAdd.getId() + " added to Band ID(" + bandId + ")"
-        );
+            bandRepository.saveAndFlush(band);
 
-        return band;
+            auditLogger.log(
+                    "ADD_MUSICIAN",
+                    "Band",
+                    bandId,
+                    "Musician ID:" + musicianToAdd.getId() + " added to Band ID(" + bandId + ")"
+            );
+
+            return band;
+        });
     }
 
     @Override
     public Band removeMusician(Long bandId, Long musicianId) {
-        Band band = bandRepository.findById(bandId)
-                .orElseThrow(()-> new NotFoundException("Band Not Found"));
-        Musician musicianToRemove = musicianRepository.findById(musicianId)
-                .orElseThrow(()-> new NotFoundException("Musician not found."));
+        return optimisticLockRetry.execute("Band", bandId, () -> {
+            Band band = bandRepository.findById(bandId)
+                    .orElseThrow(()-> new NotFoundException("Band Not Found"));
+            Musician musicianToRemove = musicianRepository.findById(musicianId)
+                    .orElseThrow(()-> new NotFoundException("Musician not found."));
 
-        band.getBandMembers().remove(musicianToRemove);
+            band.getBandMembers().remove(musicianToRemove);
 
-        bandRepository.save(band);
+            bandRepository.saveAndFlush(band);
 
-        auditLogger.log(
-                "REMOVE_MUSICIAN",
-                "Band",
-                bandId,
-                "Musician (" + musicianToRemove.getFullName() + ") removed."
-        );
+            auditLogger.log(
+                    "REMOVE_MUSICIAN",
+                    "Band",
+                    bandId,
+                    "Musician (" + musicianToRemove.getFullName() + ") removed."
+            );
 
-        return band;
+            return band;
+        });
     }
 
     @Override
     public Band addMusicStyle(Long bandId, Long styleId) {
-        Band band = bandRepository.findById(bandId)
-                .orElseThrow(()-> new NotFoundException("band not found"));
+        return optimisticLockRetry.execute("Band", bandId, () -> {
+            Band band = bandRepository.findById(bandId)
+                    .orElseThrow(()-> new NotFoundException("band not found"));
 
-        MusicStyle style = musicStyleRepository.findById(styleId)
-                .orElseThrow(()-> new NotFoundException("Music style not Found"));
+            MusicStyle style = musicStyleRepository.findById(styleId)
+                    .orElseThrow(()-> new NotFoundException("Music style not Found"));
 
-        if (band.getMusicStyles().contains(style)) {
-            throw new BadRequestException("Band already has this music style");
-        }
+            if (band.getMusicStyles().contains(style)) {
+                throw new BadRequestException("Band already has this music style");
+            }
 
-        band.getMusicStyles().add(style);
+            band.getMusicStyles().add(style);
 
-        bandRepository.save(band);
+            bandRepository.saveAndFlush(band);
 
-        auditLogger.log(
-                "MUSIC_STYLE_ADDED",
-                "Band",
-                bandId,
-                "Music Style Added: " + style.getName()
-        );
+            auditLogger.log(
+                    "MUSIC_STYLE_ADDED",
+                    "Band",
+                    bandId,
+                    "Music Style Added: " + style.getName()
+            );
 
-        return band;
+            return band;
+        });
     }
 
     @Override
     public Band removeMusicStyle(Long bandId, Long styleId) {
-        Band band = bandRepository.findById(bandId)
-                .orElseThrow(()-> new NotFoundException("band not found"));
+        return optimisticLockRetry.execute("Band", bandId, () -> {
+            Band band = bandRepository.findById(bandId)
+                    .orElseThrow(()-> new NotFoundException("band not found"));
 
-        MusicStyle style = musicStyleRepository.findById(styleId)
-                .orElseThrow(()-> new NotFoundException("Music style not Found"));
+            MusicStyle style = musicStyleRepository.findById(styleId)
+                    .orElseThrow(()-> new NotFoundException("Music style not Found"));
 
-        band.getMusicStyles().remove(style);
+            band.getMusicStyles().remove(style);
 
-        bandRepository.save(band);
+            bandRepository.saveAndFlush(band);
 
-        auditLogger.log(
-                "MUSIC_STYLE_REMOVED",
-                "Band",
-                bandId,
-                "Music Style removed: " + style.getName()
-        );
+            auditLogger.log(
+                    "MUSIC_STYLE_REMOVED",
+                    "Band",
+                    bandId,
+                    "Music Style removed: " + style.getName()
+            );
 
-        return band;
+            return band;
+        });
     }
 
     @Override
     public Band addInstrument(Long bandId, Long instrumentId) {
-        Band band = bandRepository.findById(bandId)
-                .orElseThrow(()-> new NotFoundException("band not found"));
+        return optimisticLockRetry.execute("Band", bandId, () -> {
+            Band band = bandRepository.findById(bandId)
+                    .orElseThrow(()-> new NotFoundException("band not found"));
 
-        Instrument instrument = instrumentRepository.findById(instrumentId)
-                .orElseThrow(()-> new NotFoundException("Instrument not Found"));
+            Instrument instrument = instrumentRepository.findById(instrumentId)
+                    .orElseThrow(()-> new NotFoundException("Instrument not Found"));
 
-        if (band.getRequiredInstruments().contains(instrument)) {
-            throw new BadRequestException("Instrument is already required for this band");
-        }
+            if (band.getRequiredInstruments().contains(instrument)) {
+                throw new BadRequestException("Instrument is already required for this band");
+            }
 
-        band.getRequiredInstruments().add(instrument);
-        bandRepository.save(band);
+            band.getRequiredInstruments().add(instrument);
+            bandRepository.saveAndFlush(band);
 
-        auditLogger.log(
-                "INSTRUMENT_ADDED",
-                "Band",
-                bandId,
-                "Instrument Added: " + instrument.getName()
-        );
+            auditLogger.log(
+                    "INSTRUMENT_ADDED",
+                    "Band",
+                    bandId,
+                    "Instrument Added: " + instrument.getName()
+            );
 
-        return band;
+            return band;
+        });
     }
 
     @Override
     public Band removeInstrument(Long bandId, Long instrumentId) {
-        Band band = bandRepository.findById(bandId)
-                .orElseThrow(()-> new NotFoundException("band not found"));
+        return optimisticLockRetry.execute("Band", bandId, () -> {
+            Band band = bandRepository.findById(bandId)
+                    .orElseThrow(()-> new NotFoundException("band not found"));
 
-        Instrument instrument = instrumentRepository.findById(instrumentId)
-                .orElseThrow(()-> new NotFoundException("Instrument not Found"));
+            Instrument instrument = instrumentRepository.findById(instrumentId)
+                    .orElseThrow(()-> new NotFoundException("Instrument not Found"));
 
-        band.getRequiredInstruments().remove(instrument);
+            band.getRequiredInstruments().remove(instrument);
 
-        bandRepository.save(band);
+            bandRepository.saveAndFlush(band);
 
-        auditLogger.log(
-                "INSTRUMENT_REMOVED",
-                "Band",
-                bandId,
-                "Instrument Removed: " + instrument.getName()
-        );
+            auditLogger.log(
+                    "INSTRUMENT_REMOVED",
+                    "Band",
+                    bandId,
+                    "Instrument Removed: " + instrument.getName()
+            );
 
-        return band;
+            return band;
+        });
     }
 
     @Override
     public void deleteBand(Long id) {
         bandRepository.deleteById(id);
+        bandAvailabilityIndex.evictBand(id);
+        typeaheadIndex.removeBand(id);
 
         auditLogger.log(
                 "DELETE_BAND",
@@ -272,6 +328,12 @@ public class BandServiceImpl implements BandService {
         );
     }
 
+    // Keeps the loaded set so Hibernate writes only the rows that changed instead of recreating the join table.
+    private static <T> void replaceContents(Set<T> current, List<T> wanted) {
+        current.retainAll(wanted);
+        current.addAll(wanted);
+    }
+
     private void validateStyleCompatibility(List<MusicStyle> musicStyles, List<Musician> lineUp) {
         for (Musician musician: lineUp) {
             boolean matches = musician.getMusicStyles().stream()
@@ -282,7 +344,8 @@ public class BandServiceImpl implements BandService {
         }
     }
 
-    private void validateInstrumentCoverage(List<Instrument> instruments, List<Musician> lineUp) {
+    // Package-private so the benchmark profile can measure it directly.
+    static void validateInstrumentCoverage(Collection<Instrument> instruments, Collection<Musician> lineUp) {
         for (Instrument required: instruments) {
             boolean covered = lineUp.stream()
                     .anyMatch(m-> m.getInstruments().contains(required));
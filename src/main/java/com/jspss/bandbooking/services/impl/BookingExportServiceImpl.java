@@ -0,0 +1,95 @@
+package com.jspss.bandbooking.services.impl;
+
+import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
+import com.jspss.bandbooking.export.ExportFormat;
+import com.jspss.bandbooking.repositories.BookingRepository;
+import com.jspss.bandbooking.services.BookingExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every booking to a stream, one line per booking, without holding the result set in
+ * memory. Rows come from a DTO projection read through a server-side cursor, so memory use
+ * stays flat however many bookings there are and no client or band is lazily loaded per row.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingExportServiceImpl implements BookingExportService {
+
+    static final String CSV_HEADER = "id,clientId,clientName,bandId,bandName,status,start,end";
+
+    private final BookingRepository bookingRepository;
+    private final JsonMapper jsonMapper;
+
+    // PostgreSQL only honours the fetch size (instead of buffering the whole result) inside a transaction.
+    @Override
+    @Transactional(readOnly = true)
+    public long exportBookings(ExportFormat format, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter json = jsonMapper.writerFor(BookingSummaryDTO.class);
+
+        if(format == ExportFormat.Csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        try (Stream<BookingSummaryDTO> summaries = bookingRepository.streamAllSummaries()) {
+            Iterator<BookingSummaryDTO> iterator = summaries.iterator();
+            while(iterator.hasNext()) {
+                BookingSummaryDTO row = iterator.next();
+                writer.write(format == ExportFormat.Csv ? toCsv(row) : json.writeValueAsString(row));
+                writer.write('\n');
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("Booking export finished. format={}, rows={}, durationMs={}",
+                format, rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private String toCsv(BookingSummaryDTO row) {
+        return String.join(",",
+                csv(row.id()),
+                csv(row.clientId()),
+                csv(row.clientName()),
+                csv(row.bandId()),
+                csv(row.bandName()),
+                csv(row.status()),
+                csv(row.start()),
+                csv(row.end())
+        );
+    }
+
+    private String csv(Object value) {
+        if(value == null) {
+            return "";
+        }
+        String text = value instanceof ZonedDateTime time
+                ? DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(time)
+                : value.toString();
+        if(text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,12 +1,19 @@
 package com.jspss.bandbooking.services.impl;
 
+import com.jspss.bandbooking.availability.BandAvailabilityIndex;
+import com.jspss.bandbooking.assignment.MusicianAssignmentSolver;
+import com.jspss.bandbooking.availability.BookingWindow;
+import com.jspss.bandbooking.dto.requests.AvailabilityWindow;
 import com.jspss.bandbooking.dto.requests.updates.UpdateBookingStatus;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
 import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
 import com.jspss.bandbooking.entities.*;
 import com.jspss.bandbooking.entities.enums.BookingStatus;
 import com.jspss.bandbooking.exceptions.BadRequestException;
+import com.jspss.bandbooking.exceptions.ConflictException;
 import com.jspss.bandbooking.exceptions.NotFoundException;
-import com.jspss.bandbooking.mappers.BookingMapper;
+import com.jspss.bandbooking.pagination.BookingSortOrder;
+import com.jspss.bandbooking.pagination.CursorCodec;
 import com.jspss.bandbooking.repositories.BandRepository;
 import com.jspss.bandbooking.repositories.BookingRepository;
 import com.jspss.bandbooking.repositories.ClientRepository;
@@ -14,24 +21,28 @@ import com.jspss.bandbooking.repositories.MusicianRepository;
 import com.jspss.bandbooking.services.AuditLogger;
 import com.jspss.bandbooking.services.BookingService;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final BookingRepository bookingRepository;
     private final BandRepository bandRepository;
     private final ClientRepository clientRepository;
     private final MusicianRepository musicianRepository;
-    private final BookingMapper bookingMapper;
     private final AuditLogger auditLogger;
+    private final BandAvailabilityIndex bandAvailabilityIndex;
 
     @Override
     @Transactional
@@ -50,10 +61,6 @@ public class BookingServiceImpl implements BookingService {
         Band band = bandRepository.findById(bandId).
                 orElseThrow(()-> new NotFoundException("Band not found"));
 
-        if(!isBandAvailable(bandId, start, end)) {
-            throw new BadRequestException("Band is not available.");
-        }
-
         Booking booking = new Booking();
         booking.setClient(client);
         booking.setBand(band);
@@ -62,7 +69,8 @@ public class BookingServiceImpl implements BookingService {
         booking.setCity(city);
         booking.setState(state);
         booking.setBookingStatus(BookingStatus.Pending);
-        bookingRepository.save(booking);
+        saveWithoutOverlap(booking);
+        bandAvailabilityIndex.record(booking);
 
         auditLogger.log(
                 "CREATE_BOOKING",
@@ -85,47 +93,28 @@ public class BookingServiceImpl implements BookingService {
         }
 
         Band band = booking.getBand();
-        List<Instrument> requiredInstruments = band.getRequiredInstruments();
+        Set<Instrument> requiredInstruments = band.getRequiredInstruments();
 
         if(band.getRequiredInstruments().isEmpty()){
             throw new BadRequestException("Required instruments have not been assigned.");
         }
 
-        List<MusicStyle> bandMusicStyles = new ArrayList<>(band.getMusicStyles());
-
         List<Musician> available = musicianRepository.findAvailableMusicians(
                 band.getId(),
                 booking.getGigStarts(),
                 booking.getGigEnds()
         );
 
-        List<Musician> assigned = new ArrayList<>();
-
-        for(Instrument instrument: requiredInstruments) {
-            List<Musician> candidates = available.stream()
-                    .filter(m-> m.getInstruments().contains(instrument))
-                    .filter(m-> m.getMusicStyles().stream().anyMatch(bandMusicStyles::contains))
-                    .toList();
-            if(candidates.isEmpty()) {
-                throw new BadRequestException("No musician for required instrument: " + instrument.getName());
-            }
-
-            candidates = candidates.stream()
-                    .sorted(Comparator.comparingInt(
-                                    (Musician m) -> (int) m.getMusicStyles().stream()
-                                    .filter(bandMusicStyles::contains)
-                                    .count()
-                    ).reversed())
-                    .toList();
-
-            Musician chosen = candidates.get(0);
-            assigned.add(chosen);
-            available.remove(chosen);
+        List<Musician> assigned = MusicianAssignmentSolver.assign(
+                requiredInstruments,
+                band.getMusicStyles(),
+                available
+        );
 
-        }
         booking.setMusicianList(assigned);
         booking.setBookingStatus(BookingStatus.Confirmed);
         bookingRepository.save(booking);
+        bandAvailabilityIndex.record(booking);
 
         auditLogger.log(
                 "ASSIGN_MUSICIANS",
@@ -139,7 +128,56 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public boolean isBandAvailable(Long bandId, ZonedDateTime start, ZonedDateTime end) {
-        return bookingRepository.findConflictBookings(bandId, start, end).isEmpty();
+        if(!bandAvailabilityIndex.isReady()) {
+            return bookingRepository.findConflictBookings(bandId, start, end).isEmpty();
+        }
+
+        boolean available = bandAvailabilityIndex.isAvailable(bandId, start, end);
+
+        if(bandAvailabilityIndex.isConsistencyCheck()) {
+            boolean fromDatabase = bookingRepository.findConflictBookings(bandId, start, end).isEmpty();
+            if(available != fromDatabase) {
+                throw new IllegalStateException("Availability index out of sync for Band ID(" + bandId + "): index="
+                        + available + ", database=" + fromDatabase);
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public List<List<Boolean>> checkAvailability(List<Long> bandIds, List<AvailabilityWindow> windows) {
+        ZonedDateTime from = null;
+        ZonedDateTime to = null;
+        for(AvailabilityWindow window: windows) {
+            if(window.start() == null || window.end() == null || window.end().isBefore(window.start())) {
+                throw new BadRequestException("Invalid booking time range.");
+            }
+            from = (from == null || window.start().isBefore(from)) ? window.start() : from;
+            to = (to == null || window.end().isAfter(to)) ? window.end() : to;
+        }
+
+        if(bandAvailabilityIndex.isReady() && !bandAvailabilityIndex.isConsistencyCheck()) {
+            return bandIds.stream()
+                    .map(bandId -> windows.stream()
+                            .map(w -> bandAvailabilityIndex.isAvailable(bandId, w.start(), w.end()))
+                            .toList())
+                    .toList();
+        }
+
+        Map<Long, List<BookingWindow>> booked = new HashMap<>();
+        for(BookingWindow window: bookingRepository.findActiveBookingWindows(new HashSet<>(bandIds), from, to)) {
+            booked.computeIfAbsent(window.bandId(), id -> new ArrayList<>()).add(window);
+        }
+
+        return bandIds.stream()
+                .map(bandId -> {
+                    List<BookingWindow> bandBookings = booked.getOrDefault(bandId, List.of());
+                    return windows.stream()
+                            .map(w -> bandBookings.stream().noneMatch(b ->
+                                    !b.start().isAfter(w.end()) && !b.end().isBefore(w.start())))
+                            .toList();
+                })
+                .toList();
     }
 
     @Override
@@ -155,7 +193,8 @@ public class BookingServiceImpl implements BookingService {
 
         String after = booking.getBookingStatus().toString();
 
-        bookingRepository.save(booking);
+        saveWithoutOverlap(booking);
+        bandAvailabilityIndex.record(booking);
 
         auditLogger.log(
                 "STATUS_UPDATE",
@@ -181,6 +220,7 @@ public class BookingServiceImpl implements BookingService {
             booking.setBookingStatus(BookingStatus.Cancelled);
         }
         bookingRepository.save(booking);
+        bandAvailabilityIndex.record(booking);
 
         auditLogger.log(
                 "CANCEL_BOOKING",
@@ -203,28 +243,65 @@ public class BookingServiceImpl implements BookingService {
         return bookingRepository.findAll();
     }
 
+    @Override
+    public CursorPageDTO<Booking> getBookingPage(String cursor, int limit, BookingSortOrder sort) {
+        Limit fetch = Limit.of(limit + 1);
+
+        if(sort == BookingSortOrder.GigStarts) {
+            CursorCodec.TimeKey after = CursorCodec.decodeTime(cursor);
+            List<Booking> rows = after == null
+                    ? bookingRepository.findAllByOrderByGigStartsAscIdAsc(fetch)
+                    : bookingRepository.findPageAfterGigStarts(after.at(), after.id(), fetch);
+            return CursorPageDTO.of(rows, limit, b -> CursorCodec.encodeTime(b.getGigStarts(), b.getId()));
+        }
+
+        Long after = CursorCodec.decodeId(cursor);
+        List<Booking> rows = bookingRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, fetch);
+        return CursorPageDTO.of(rows, limit, b -> CursorCodec.encodeId(b.getId()));
+    }
+
 
     @Override
     public List<BookingSummaryDTO> getBookingsForBand(Long bandId) {
-        return bookingRepository.findByBand_Id(bandId)
-                .stream()
-                .map(bookingMapper::toBookingSummary)
-                .toList();
+        return bookingRepository.findSummariesByBandId(bandId);
     }
 
     @Override
     public List<BookingSummaryDTO> getBookingsForMusician(Long musicianId) {
-        return bookingRepository.findByMusicianList_Id(musicianId)
-                .stream()
-                .map(bookingMapper::toBookingSummary)
-                .toList();
+        return bookingRepository.findSummariesByMusicianId(musicianId);
     }
 
     @Override
     public List<BookingSummaryDTO> getBookingsForClient(Long clientId) {
-        return bookingRepository.findByClient_Id(clientId)
-                .stream()
-                .map(bookingMapper::toBookingSummary)
-                .toList();
+        return bookingRepository.findSummariesByClientId(clientId);
+    }
+
+    /**
+     * Overlaps are rejected by the {@link Booking#NO_OVERLAP_CONSTRAINT} exclusion constraint
+     * rather than checked up front, so concurrent requests cannot both pass. Flushing here
+     * surfaces the violation inside the service instead of at commit.
+     */
+    private void saveWithoutOverlap(Booking booking) {
+        try {
+            bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException ex) {
+            if(isOverlapViolation(ex)) {
+                throw new ConflictException("Band is not available.");
+            }
+            throw ex;
+        }
+    }
+
+    static boolean isOverlapViolation(Throwable ex) {
+        for(Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if(cause instanceof ConstraintViolationException violation
+                    && Booking.NO_OVERLAP_CONSTRAINT.equals(violation.getConstraintName())) {
+                return true;
+            }
+            if(cause instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
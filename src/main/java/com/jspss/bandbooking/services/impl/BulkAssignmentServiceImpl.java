@@ -0,0 +1,234 @@
+package com.jspss.bandbooking.services.impl;
+
+import com.jspss.bandbooking.assignment.MusicianAssignmentSolver;
+import com.jspss.bandbooking.assignment.MusicianBusyWindow;
+import com.jspss.bandbooking.dto.responses.BulkAssignmentResponseDTO;
+import com.jspss.bandbooking.entities.Band;
+import com.jspss.bandbooking.entities.Booking;
+import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+import com.jspss.bandbooking.exceptions.BadRequestException;
+import com.jspss.bandbooking.repositories.BookingRepository;
+import com.jspss.bandbooking.repositories.MusicianRepository;
+import com.jspss.bandbooking.services.AuditLogger;
+import com.jspss.bandbooking.services.BulkAssignmentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Confirms every pending booking in a date range in one run.
+ * <p>
+ * Planning happens in a single read-only transaction: the pending bookings and the busy
+ * windows of every involved musician are each loaded with one query, then bookings are
+ * solved in start order while windows handed out earlier in the run are added to the busy
+ * set, so no musician is double-booked across the bookings being confirmed together. The
+ * plan is then written in batches, each in its own transaction. A batch locks its planned
+ * musicians and reloads their busy windows before writing, so a booking whose musician was
+ * assigned elsewhere after planning fails instead of double-booking them.
+ */
+@Slf4j
+@Service
+public class BulkAssignmentServiceImpl implements BulkAssignmentService {
+
+    private final BookingRepository bookingRepository;
+    private final MusicianRepository musicianRepository;
+    private final AuditLogger auditLogger;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+
+    public BulkAssignmentServiceImpl(BookingRepository bookingRepository,
+                                     MusicianRepository musicianRepository,
+                                     AuditLogger auditLogger,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${bandbooking.assignment.bulk.batch-size:50}") int batchSize) {
+        this.bookingRepository = bookingRepository;
+        this.musicianRepository = musicianRepository;
+        this.auditLogger = auditLogger;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public BulkAssignmentResponseDTO assignPendingBookings(ZonedDateTime from, ZonedDateTime to) {
+        if(from == null || to == null || to.isBefore(from)) {
+            throw new BadRequestException("Invalid booking time range.");
+        }
+
+        Map<Long, String> failures = new LinkedHashMap<>();
+        Map<Long, List<Long>> plan = readOnlyTransaction.execute(status -> plan(from, to, failures));
+        int pending = plan.size() + failures.size();
+
+        List<Map.Entry<Long, List<Long>>> entries = new ArrayList<>(plan.entrySet());
+        List<Long> confirmed = new ArrayList<>();
+
+        for(int i = 0; i < entries.size(); i += batchSize) {
+            List<Map.Entry<Long, List<Long>>> batch = entries.subList(i, Math.min(i + batchSize, entries.size()));
+            Map<Long, String> batchFailures = new LinkedHashMap<>();
+            try {
+                confirmed.addAll(writeTransaction.execute(status -> commit(batch, batchFailures)));
+                failures.putAll(batchFailures);
+            } catch (RuntimeException ex) {
+                log.warn("Bulk assignment batch failed. bookings={}, error={}",
+                        batch.stream().map(Map.Entry::getKey).toList(), ex.getMessage());
+                batch.forEach(entry -> failures.put(entry.getKey(), "Batch failed: " + ex.getMessage()));
+            }
+
+            log.info("Bulk assignment progress. processed={}/{}, confirmed={}, failed={}",
+                    Math.min(i + batchSize, entries.size()), entries.size(), confirmed.size(), failures.size());
+        }
+
+        auditLogger.log(
+                "ASSIGN_MUSICIANS_BULK",
+                "Booking",
+                null,
+                "Bulk assignment from " + from + " to " + to + ": " + confirmed.size() + " of "
+                        + pending + " pending bookings confirmed."
+        );
+
+        return new BulkAssignmentResponseDTO(pending, confirmed, failures);
+    }
+
+    private Map<Long, List<Long>> plan(ZonedDateTime from, ZonedDateTime to, Map<Long, String> failures) {
+        List<Booking> pending = bookingRepository
+                .findByBookingStatusAndGigStartsBetweenOrderByGigStarts(BookingStatus.Pending, from, to);
+
+        Map<Long, List<Long>> plan = new LinkedHashMap<>();
+        if(pending.isEmpty()) {
+            return plan;
+        }
+
+        Set<Long> rosterIds = new HashSet<>();
+        ZonedDateTime latestEnd = to;
+        for(Booking booking: pending) {
+            booking.getBand().getBandMembers().forEach(m -> rosterIds.add(m.getId()));
+            if(booking.getGigEnds().isAfter(latestEnd)) {
+                latestEnd = booking.getGigEnds();
+            }
+        }
+
+        Map<Long, List<MusicianBusyWindow>> busy = new HashMap<>();
+        if(!rosterIds.isEmpty()) {
+            for(MusicianBusyWindow window: bookingRepository.findMusicianBusyWindows(rosterIds, from, latestEnd)) {
+                busy.computeIfAbsent(window.musicianId(), id -> new ArrayList<>()).add(window);
+            }
+        }
+
+        for(Booking booking: pending) {
+            Band band = booking.getBand();
+            if(band.getRequiredInstruments().isEmpty()) {
+                failures.put(booking.getId(), "Required instruments have not been assigned.");
+                continue;
+            }
+
+            List<Musician> available = band.getBandMembers().stream()
+                    .filter(m -> isFree(busy.get(m.getId()), booking))
+                    .toList();
+
+            try {
+                List<Musician> assigned = MusicianAssignmentSolver.assign(
+                        band.getRequiredInstruments(),
+                        band.getMusicStyles(),
+                        available
+                );
+                plan.put(booking.getId(), assigned.stream().map(Musician::getId).toList());
+                for(Musician musician: assigned) {
+                    busy.computeIfAbsent(musician.getId(), id -> new ArrayList<>())
+                            .add(new MusicianBusyWindow(musician.getId(), booking.getGigStarts(), booking.getGigEnds()));
+                }
+            } catch (BadRequestException ex) {
+                failures.put(booking.getId(), ex.getMessage());
+            }
+        }
+        return plan;
+    }
+
+    private List<Long> commit(List<Map.Entry<Long, List<Long>>> batch, Map<Long, String> failures) {
+        Map<Long, Booking> bookings = new HashMap<>();
+        bookingRepository.findAllById(batch.stream().map(Map.Entry::getKey).toList())
+                .forEach(b -> bookings.put(b.getId(), b));
+
+        Map<Long, List<MusicianBusyWindow>> busy = reloadBusyWindows(batch, bookings);
+
+        List<Long> confirmed = new ArrayList<>();
+        for(Map.Entry<Long, List<Long>> entry: batch) {
+            Booking booking = bookings.get(entry.getKey());
+            if(booking == null || booking.getBookingStatus() != BookingStatus.Pending) {
+                failures.put(entry.getKey(), "Booking is no longer pending.");
+                continue;
+            }
+
+            Optional<Long> taken = entry.getValue().stream()
+                    .filter(id -> !isFree(busy.get(id), booking))
+                    .findFirst();
+            if(taken.isPresent()) {
+                failures.put(booking.getId(), "Musician " + taken.get() + " is no longer available.");
+                continue;
+            }
+            for(Long id: entry.getValue()) {
+                busy.computeIfAbsent(id, key -> new ArrayList<>())
+                        .add(new MusicianBusyWindow(id, booking.getGigStarts(), booking.getGigEnds()));
+            }
+
+            List<Musician> musicians = new ArrayList<>();
+            entry.getValue().forEach(id -> musicians.add(musicianRepository.getReferenceById(id)));
+
+            booking.setMusicianList(musicians);
+            booking.setBookingStatus(BookingStatus.Confirmed);
+            bookingRepository.save(booking);
+
+            auditLogger.log(
+                    "ASSIGN_MUSICIANS",
+                    "Booking",
+                    booking.getId(),
+                    "Assigned musicians for Booking ID: " + booking.getId() + " (bulk)"
+            );
+            confirmed.add(booking.getId());
+        }
+        return confirmed;
+    }
+
+    // Locks the batch's planned musicians, then reads their busy windows over the batch's span.
+    private Map<Long, List<MusicianBusyWindow>> reloadBusyWindows(List<Map.Entry<Long, List<Long>>> batch,
+                                                                  Map<Long, Booking> bookings) {
+        Set<Long> musicianIds = new TreeSet<>();
+        ZonedDateTime from = null;
+        ZonedDateTime to = null;
+        for(Map.Entry<Long, List<Long>> entry: batch) {
+            Booking booking = bookings.get(entry.getKey());
+            if(booking == null || booking.getBookingStatus() != BookingStatus.Pending) {
+                continue;
+            }
+            musicianIds.addAll(entry.getValue());
+            if(from == null || booking.getGigStarts().isBefore(from)) {
+                from = booking.getGigStarts();
+            }
+            if(to == null || booking.getGigEnds().isAfter(to)) {
+                to = booking.getGigEnds();
+            }
+        }
+
+        Map<Long, List<MusicianBusyWindow>> busy = new HashMap<>();
+        if(musicianIds.isEmpty()) {
+            return busy;
+        }
+        musicianRepository.lockAllById(musicianIds);
+        for(MusicianBusyWindow window: bookingRepository.findMusicianBusyWindows(musicianIds, from, to)) {
+            busy.computeIfAbsent(window.musicianId(), id -> new ArrayList<>()).add(window);
+        }
+        return busy;
+    }
+
+    private boolean isFree(List<MusicianBusyWindow> windows, Booking booking) {
+        return windows == null || windows.stream().noneMatch(w ->
+                w.start().isBefore(booking.getGigEnds()) && w.end().isAfter(booking.getGigStarts()));
+    }
+}
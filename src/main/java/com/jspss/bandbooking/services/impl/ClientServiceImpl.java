@@ -1,15 +1,18 @@
 package com.jspss.bandbooking.services.impl;
 
 import com.jspss.bandbooking.dto.requests.updates.UpdateClientRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
 import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
 import com.jspss.bandbooking.entities.Booking;
 import com.jspss.bandbooking.entities.Client;
 import com.jspss.bandbooking.exceptions.NotFoundException;
-import com.jspss.bandbooking.mappers.BookingMapper;
+import com.jspss.bandbooking.pagination.CursorCodec;
+import com.jspss.bandbooking.repositories.BookingRepository;
 import com.jspss.bandbooking.repositories.ClientRepository;
 import com.jspss.bandbooking.services.AuditLogger;
 import com.jspss.bandbooking.services.ClientService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,8 +22,8 @@ import java.util.List;
 public class ClientServiceImpl implements ClientService {
 
     private final ClientRepository clientRepository;
+    private final BookingRepository bookingRepository;
     private final AuditLogger auditLogger;
-    private final BookingMapper bookingMapper;
 
     @Override
     public Client getClient(Long id) {
@@ -34,6 +37,13 @@ public class ClientServiceImpl implements ClientService {
         return clientRepository.findAll();
     }
 
+    @Override
+    public CursorPageDTO<Client> getClientPage(String cursor, int limit) {
+        Long after = CursorCodec.decodeId(cursor);
+        List<Client> rows = clientRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(limit + 1));
+        return CursorPageDTO.of(rows, limit, row -> CursorCodec.encodeId(row.getId()));
+    }
+
     @Override
     public List<Client> searchClients(String query) {
         if(query == null || query.trim().isEmpty()) {
@@ -90,12 +100,9 @@ public class ClientServiceImpl implements ClientService {
 
     @Override
     public List<BookingSummaryDTO> getBookings(Long id) {
-        Client client = clientRepository.findById(id)
-                .orElseThrow(()-> new NotFoundException("Client not found"));
-
-        return client.getBookingList()
-                .stream()
-                .map(bookingMapper::toBookingSummary)
-                .toList();
+        if(!clientRepository.existsById(id)) {
+            throw new NotFoundException("Client not found");
+        }
+        return bookingRepository.findSummariesByClientId(id);
     }
 }
@@ -1,5 +1,6 @@
 package com.jspss.bandbooking.services.impl;
 
+import com.jspss.bandbooking.cache.ReferenceDataCache;
 import com.jspss.bandbooking.dto.requests.updates.UpdateInstrumentRequest;
 import com.jspss.bandbooking.entities.Instrument;
 import com.jspss.bandbooking.exceptions.BadRequestException;
@@ -9,6 +10,7 @@ import com.jspss.bandbooking.services.AuditLogger;
 import com.jspss.bandbooking.services.InstrumentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +21,7 @@ public class InstrumentServiceImpl implements InstrumentService {
 
     private final InstrumentRepository instrumentRepository;
     private final AuditLogger auditLogger;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public Instrument getInstrument(Long id) {
@@ -43,6 +46,7 @@ public class InstrumentServiceImpl implements InstrumentService {
         Instrument instrument = new Instrument();
         instrument.setName(capitalize(normalized));
         instrumentRepository.save(instrument);
+        referenceDataCache.evictInstrument(instrument.getId());
 
         auditLogger.log(
                 "CREATE_INSTRUMENT",
@@ -56,9 +60,12 @@ public class InstrumentServiceImpl implements InstrumentService {
     }
 
     @Override
+    @Transactional
     public List<Instrument> createInstruments(List<String> instrumentsNames) {
         List<Instrument> instrumentList = new ArrayList<>();
 
+        // Validate every name before saving anything: the existence queries would otherwise
+        // flush each pending insert on its own and defeat JDBC batching.
         for(String rawName : instrumentsNames) {
             String cleaned = rawName.trim();
             String normalized = normalizeName(cleaned);
@@ -74,10 +81,12 @@ public class InstrumentServiceImpl implements InstrumentService {
             Instrument instrument = new Instrument();
             String displayName = capitalize(normalized);
             instrument.setName(displayName);
-            instrumentRepository.save(instrument);
             instrumentList.add(instrument);
         }
 
+        instrumentList.forEach(instrumentRepository::save);
+        referenceDataCache.evictInstrument(null);
+
         auditLogger.log(
                 "CREATE_INSTRUMENTS_BULK",
                 "INSTRUMENT",
@@ -108,6 +117,7 @@ public class InstrumentServiceImpl implements InstrumentService {
         String after = existing.toString();
 
         instrumentRepository.save(existing);
+        referenceDataCache.evictInstrument(id);
 
         auditLogger.log(
                 "INSTRUMENT_UPDATE",
@@ -122,6 +132,7 @@ public class InstrumentServiceImpl implements InstrumentService {
     @Override
     public void deleteInstrument(Long id) {
         instrumentRepository.deleteById(id);
+        referenceDataCache.evictInstrument(id);
         auditLogger.log(
                 "DELETE_INSTRUMENT",
                 "Instrument",
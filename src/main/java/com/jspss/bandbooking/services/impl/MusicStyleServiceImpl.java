@@ -1,5 +1,6 @@
 package com.jspss.bandbooking.services.impl;
 
+import com.jspss.bandbooking.cache.ReferenceDataCache;
 import com.jspss.bandbooking.dto.requests.updates.UpdateMusicStyleRequest;
 import com.jspss.bandbooking.entities.Instrument;
 import com.jspss.bandbooking.entities.MusicStyle;
@@ -11,6 +12,7 @@ import com.jspss.bandbooking.services.AuditLogger;
 import com.jspss.bandbooking.services.MusicStyleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +23,7 @@ public class MusicStyleServiceImpl implements MusicStyleService {
 
     private final MusicStyleRepository musicStyleRepository;
     private final AuditLogger auditLogger;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public MusicStyle getMusicStyle(Long id) {
@@ -45,6 +48,7 @@ public class MusicStyleServiceImpl implements MusicStyleService {
         MusicStyle musicStyle = new MusicStyle();
         musicStyle.setName(capitalize(normalized));
         musicStyleRepository.save(musicStyle);
+        referenceDataCache.evictMusicStyle(musicStyle.getId());
 
         auditLogger.log(
                 "CREATE_MUSIC_STYLE",
@@ -57,9 +61,11 @@ public class MusicStyleServiceImpl implements MusicStyleService {
     }
 
     @Override
+    @Transactional
     public List<MusicStyle> createMusicStyles(List<String> musicStylesList) {
         List<MusicStyle> styles = new ArrayList<>();
 
+        // Validate every name before saving anything so the inserts go out as one JDBC batch.
         for(String rawName : musicStylesList) {
             String cleaned = rawName.trim();
             String normalized = normalizeName(cleaned);
@@ -74,10 +80,12 @@ public class MusicStyleServiceImpl implements MusicStyleService {
             MusicStyle style = new MusicStyle();
             String displayName = capitalize(normalized);
             style.setName(displayName);
-            musicStyleRepository.save(style);
             styles.add(style);
         }
 
+        styles.forEach(musicStyleRepository::save);
+        referenceDataCache.evictMusicStyle(null);
+
         auditLogger.log(
           "CREATE_MUSIC_STYLES_BULK",
           "Music Style",
@@ -115,7 +123,9 @@ public class MusicStyleServiceImpl implements MusicStyleService {
                 id,
                 "Music style (ID:" + id + ") updated from " + before + " to " + after
         );
-        return musicStyleRepository.save(existing);
+        MusicStyle saved = musicStyleRepository.save(existing);
+        referenceDataCache.evictMusicStyle(id);
+        return saved;
     }
 
     @Override
@@ -124,6 +134,7 @@ public class MusicStyleServiceImpl implements MusicStyleService {
                 .orElseThrow(()-> new RuntimeException("Music style not found"));
 
         musicStyleRepository.deleteById(id);
+        referenceDataCache.evictMusicStyle(id);
 
         auditLogger.log(
                 "DELETE_MUSIC_STYLE",
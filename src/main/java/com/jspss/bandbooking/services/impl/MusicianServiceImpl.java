@@ -1,18 +1,26 @@
 package com.jspss.bandbooking.services.impl;
 
 import com.jspss.bandbooking.dto.requests.updates.UpdateMusicianRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
+import com.jspss.bandbooking.dto.responses.SuggestionDTO;
 import com.jspss.bandbooking.entities.Instrument;
 import com.jspss.bandbooking.entities.MusicStyle;
 import com.jspss.bandbooking.entities.Musician;
 import com.jspss.bandbooking.exceptions.NotFoundException;
+import com.jspss.bandbooking.pagination.CursorCodec;
 import com.jspss.bandbooking.repositories.InstrumentRepository;
 import com.jspss.bandbooking.repositories.MusicStyleRepository;
 import com.jspss.bandbooking.repositories.MusicianRepository;
+import com.jspss.bandbooking.retry.OptimisticLockRetry;
 import com.jspss.bandbooking.services.AuditLogger;
 import com.jspss.bandbooking.services.MusicianService;
+import com.jspss.bandbooking.typeahead.NameEntry;
+import com.jspss.bandbooking.typeahead.TypeaheadIndex;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +33,8 @@ public class MusicianServiceImpl implements MusicianService {
     private final InstrumentRepository instrumentRepository;
     private final MusicStyleRepository musicStyleRepository;
     private final AuditLogger auditLogger;
+    private final TypeaheadIndex typeaheadIndex;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     @Override
     public Musician getMusician(Long id) {
@@ -38,12 +48,32 @@ public class MusicianServiceImpl implements MusicianService {
         return musicianRepository.findAll();
     }
 
+    @Override
+    public CursorPageDTO<Musician> getMusicianPage(String cursor, int limit) {
+        Long after = CursorCodec.decodeId(cursor);
+        List<Musician> rows = musicianRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(limit + 1));
+        return CursorPageDTO.of(rows, limit, row -> CursorCodec.encodeId(row.getId()));
+    }
+
     @Override
     public List<Musician> searchMusicians(String query) {
         return musicianRepository.fuzzySearch(query);
     }
 
     @Override
+    public List<SuggestionDTO> suggestMusicians(String prefix, Integer limit) {
+        if(prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int max = typeaheadIndex.resolveLimit(limit);
+        List<NameEntry> names = typeaheadIndex.isReady()
+                ? typeaheadIndex.suggestMusicians(prefix, max)
+                : typeaheadIndex.fallbackMusicians(prefix, max);
+        return names.stream().map(n -> new SuggestionDTO(n.id(), n.name())).toList();
+    }
+
+    @Override
+    @Transactional
     public List<Musician> createMusicians(List<String> musicians) {
         List<Musician> musicianList = new ArrayList<>();
 
@@ -70,6 +100,7 @@ public class MusicianServiceImpl implements MusicianService {
         musician.setFullName(musicianName);
 
         musicianRepository.save(musician);
+        typeaheadIndex.recordMusician(musician);
 
         auditLogger.log(
                 "CREATE_MUSICIAN",
@@ -89,6 +120,7 @@ public class MusicianServiceImpl implements MusicianService {
         String before  = existing.toString();
 
         musicianRepository.save(existing);
+        typeaheadIndex.recordMusician(existing);
 
         String after = existing.toString();
 
@@ -104,51 +136,59 @@ public class MusicianServiceImpl implements MusicianService {
 
     @Override
     public Musician addInstruments(Long id, List<Long> instrumentsIds) {
-        Musician musician = musicianRepository.findById(id)
-                .orElseThrow(()-> new NotFoundException("Musician not found"));
-        List<Instrument> instrumentList = instrumentRepository.findAllById(instrumentsIds);
-
-        for(Instrument instrument: instrumentList) {
-            if(!musician.getInstruments().contains(instrument))
-                musician.getInstruments().add(instrument);
-        }
-        return musicianRepository.save(musician);
+        return optimisticLockRetry.execute("Musician", id, () -> {
+            Musician musician = musicianRepository.findById(id)
+                    .orElseThrow(()-> new NotFoundException("Musician not found"));
+            List<Instrument> instrumentList = instrumentRepository.findAllById(instrumentsIds);
+
+            for(Instrument instrument: instrumentList) {
+                if(!musician.getInstruments().contains(instrument))
+                    musician.getInstruments().add(instrument);
+            }
+            return musicianRepository.saveAndFlush(musician);
+        });
     }
 
     @Override
     public Musician removeInstruments(Long id, List<Long> instrumentIds) {
-        Musician musician = musicianRepository.findById(id)
-                .orElseThrow(()-> new NotFoundException("Musician not found"));
-        List<Instrument> instrumentList = instrumentRepository.findAllById(instrumentIds);
-        for(Instrument instrument: instrumentList){
-            musician.getInstruments().remove(instrument);
-        }
-        return musicianRepository.save(musician);
+        return optimisticLockRetry.execute("Musician", id, () -> {
+            Musician musician = musicianRepository.findById(id)
+                    .orElseThrow(()-> new NotFoundException("Musician not found"));
+            List<Instrument> instrumentList = instrumentRepository.findAllById(instrumentIds);
+            for(Instrument instrument: instrumentList){
+                musician.getInstruments().remove(instrument);
+            }
+            return musicianRepository.saveAndFlush(musician);
+        });
     }
 
     @Override
     public Musician addMusicStyles(Long id, List<Long> styleIds) {
-        Musician musician = musicianRepository.findById(id)
-                .orElseThrow(()-> new NotFoundException("Musician not found"));
-        List<MusicStyle> musicStyleList = musicStyleRepository.findAllById(styleIds);
-
-        for(MusicStyle style: musicStyleList) {
-            if(!musician.getMusicStyles().contains(style))
-                musician.getMusicStyles().add(style);
-        }
-
-        return musicianRepository.save(musician);
+        return optimisticLockRetry.execute("Musician", id, () -> {
+            Musician musician = musicianRepository.findById(id)
+                    .orElseThrow(()-> new NotFoundException("Musician not found"));
+            List<MusicStyle> musicStyleList = musicStyleRepository.findAllById(styleIds);
+
+            for(MusicStyle style: musicStyleList) {
+                if(!musician.getMusicStyles().contains(style))
+                    musician.getMusicStyles().add(style);
+            }
+
+            return musicianRepository.saveAndFlush(musician);
+        });
     }
 
     @Override
     public Musician removeMusicStyle(Long id, List<Long> styleIds) {
-        Musician musician = musicianRepository.findById(id)
-                .orElseThrow(()-> new NotFoundException("Musician not Found"));
-        List<MusicStyle> styleList = musicStyleRepository.findAllById(styleIds);
-        for(MusicStyle style: styleList){
-            musician.getMusicStyles().remove(style);
-        }
-        return musicianRepository.save(musician);
+        return optimisticLockRetry.execute("Musician", id, () -> {
+            Musician musician = musicianRepository.findById(id)
+                    .orElseThrow(()-> new NotFoundException("Musician not Found"));
+            List<MusicStyle> styleList = musicStyleRepository.findAllById(styleIds);
+            for(MusicStyle style: styleList){
+                musician.getMusicStyles().remove(style);
+            }
+            return musicianRepository.saveAndFlush(musician);
+        });
     }
 
 
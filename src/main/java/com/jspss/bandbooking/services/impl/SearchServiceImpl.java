@@ -0,0 +1,40 @@
+package com.jspss.bandbooking.services.impl;
+
+import com.jspss.bandbooking.dto.responses.SearchResultDTO;
+import com.jspss.bandbooking.exceptions.BadRequestException;
+import com.jspss.bandbooking.search.SearchRepository;
+import com.jspss.bandbooking.services.SearchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    // Shorter terms have no trigrams to look up, so the indexes could not be used.
+    static final int MIN_QUERY_LENGTH = 3;
+
+    private final SearchRepository searchRepository;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public SearchServiceImpl(SearchRepository searchRepository,
+                             @Value("${bandbooking.search.default-limit:20}") int defaultLimit,
+                             @Value("${bandbooking.search.max-limit:50}") int maxLimit) {
+        this.searchRepository = searchRepository;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.defaultLimit = Math.min(Math.max(1, defaultLimit), this.maxLimit);
+    }
+
+    @Override
+    public List<SearchResultDTO> search(String query, Integer limit) {
+        String cleaned = query == null ? "" : query.trim();
+        if(cleaned.length() < MIN_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at least " + MIN_QUERY_LENGTH + " characters.");
+        }
+
+        int resolved = limit == null || limit < 1 ? defaultLimit : Math.min(limit, maxLimit);
+        return searchRepository.search(cleaned, resolved);
+    }
+}
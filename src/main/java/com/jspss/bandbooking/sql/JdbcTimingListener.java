@@ -0,0 +1,36 @@
+package com.jspss.bandbooking.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times JDBC statement and batch executions of every Hibernate session into the current
+ * request's {@link RequestSqlStats}.
+ */
+public class JdbcTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if(stats != null) {
+            stats.executionStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if(stats != null) {
+            stats.executionEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
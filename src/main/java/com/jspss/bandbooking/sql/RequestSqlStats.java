@@ -0,0 +1,70 @@
+package com.jspss.bandbooking.sql;
+
+/**
+ * Statements prepared and JDBC execution time of the current request, filled in by
+ * {@link SqlStatementCounter} and {@link JdbcTimingListener}. Hibernate creates those two itself,
+ * so they find the stats through a thread local that {@link SqlBudget} opens per request.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private String pendingSql;
+    private long executionStart;
+    private String slowestSql;
+    private long slowestNanos;
+
+    static RequestSqlStats open() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared(String sql) {
+        statements++;
+        pendingSql = sql;
+    }
+
+    void executionStarted() {
+        executionStart = System.nanoTime();
+    }
+
+    void executionEnded() {
+        if(executionStart == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - executionStart;
+        executionStart = 0;
+        jdbcNanos += elapsed;
+        if(elapsed > slowestNanos) {
+            slowestNanos = elapsed;
+            slowestSql = pendingSql;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+
+    public long getSlowestNanos() {
+        return slowestNanos;
+    }
+}
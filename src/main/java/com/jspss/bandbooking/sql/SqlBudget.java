@@ -0,0 +1,107 @@
+package com.jspss.bandbooking.sql;
+
+import com.jspss.bandbooking.exceptions.SqlBudgetExceededException;
+import com.jspss.bandbooking.logging.RoutePrefixMap;
+import com.jspss.bandbooking.logging.TraceIds;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request SQL accounting for the request filter.
+ * <p>
+ * {@link #begin()} starts counting the statements Hibernate prepares and the time spent in
+ * JDBC on the current thread; {@link #end} publishes both per route and checks them. A request
+ * that prepared more than the route's {@code statement-budget} statements (the usual sign of
+ * an N+1) is logged at WARN, or fails with {@link SqlBudgetExceededException} when
+ * {@code fail-on-exceed} is set, as it is under the test profile. The check runs after the
+ * response is written, so that exception is for tests (MockMvc rethrows it), not for clients.
+ * The slowest statement of a request is logged with the trace ID when it took longer than
+ * {@code slow-threshold}.
+ * <p>
+ * Only Hibernate statements are seen; JdbcTemplate calls (audit log, search) are not counted.
+ */
+@Slf4j
+@Component
+public class SqlBudget {
+
+    static final String STATEMENTS = "bandbooking.request.sql.statements";
+    static final String JDBC_TIME = "bandbooking.request.sql.time";
+    static final String EXCEEDED = "bandbooking.request.sql.budget.exceeded";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int statementBudget;
+    private final RoutePrefixMap<Integer> routeBudgets;
+    private final boolean failOnExceed;
+    private final long slowThresholdNanos;
+
+    public SqlBudget(MeterRegistry meterRegistry,
+                     @Value("${bandbooking.sql.enabled:true}") boolean enabled,
+                     @Value("${bandbooking.sql.statement-budget:30}") int statementBudget,
+                     @Value("${bandbooking.sql.route-statement-budgets:}") String routeBudgets,
+                     @Value("${bandbooking.sql.fail-on-exceed:false}") boolean failOnExceed,
+                     @Value("${bandbooking.sql.slow-threshold:200ms}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.statementBudget = statementBudget;
+        this.routeBudgets = RoutePrefixMap.parse(routeBudgets, Integer::valueOf);
+        this.failOnExceed = failOnExceed;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    /**
+     * @return the stats of the request, or null when accounting is disabled
+     */
+    public RequestSqlStats begin() {
+        return enabled ? RequestSqlStats.open() : null;
+    }
+
+    /**
+     * @param route the matched handler pattern, or null when no handler matched
+     */
+    public void end(RequestSqlStats stats, String method, String route) {
+        if(stats == null) {
+            return;
+        }
+        RequestSqlStats.close();
+
+        String routeTag = route != null ? route : "UNMATCHED";
+        DistributionSummary.builder(STATEMENTS)
+                .description("SQL statements prepared per request")
+                .tag("method", method)
+                .tag("route", routeTag)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder(JDBC_TIME)
+                .description("Time spent executing SQL per request")
+                .tag("method", method)
+                .tag("route", routeTag)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if(stats.getSlowestNanos() >= slowThresholdNanos) {
+            log.warn("Slow SQL. method={}, route={}, duration={}, traceId={}, sql={}",
+                    method, routeTag, TimeUnit.NANOSECONDS.toMillis(stats.getSlowestNanos()),
+                    MDC.get(TraceIds.MDC_KEY), stats.getSlowestSql());
+        }
+
+        int budget = routeBudgets.get(route, statementBudget);
+        if(stats.getStatements() > budget) {
+            meterRegistry.counter(EXCEEDED, "method", method, "route", routeTag).increment();
+            String message = "SQL statement budget exceeded. method=" + method + ", route=" + routeTag
+                    + ", statements=" + stats.getStatements() + ", budget=" + budget;
+            if(failOnExceed) {
+                throw new SqlBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+    }
+}
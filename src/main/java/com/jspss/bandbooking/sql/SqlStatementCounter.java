@@ -0,0 +1,19 @@
+package com.jspss.bandbooking.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares during a request and remembers its SQL, so the
+ * execution that follows can be attributed to it. The SQL is passed through unchanged.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if(stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,4 @@
+package com.jspss.bandbooking.typeahead;
+
+public record NameEntry(Long id, String name) {
+}
@@ -0,0 +1,146 @@
+package com.jspss.bandbooking.typeahead;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix index over the words of entity names.
+ * <p>
+ * Every word of a normalized name (lower case, accents stripped) becomes one key
+ * {@code word \0 name \0 id} in a sorted skip list, so "kar" finds "David Karpinski" and
+ * all keys for a prefix are one contiguous range, already ordered by name. A lookup is a
+ * single seek plus a walk over at most a few times {@code limit} keys. Changes add and
+ * remove only the keys of the entity concerned; nothing is ever rebuilt.
+ */
+final class NameIndex {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Walk bound for multi-word queries whose later words filter out most candidates.
+    private static final int SCAN_FACTOR = 20;
+
+    private final ConcurrentSkipListMap<String, Long> keys = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<Long> removedBeforeLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    private record Entry(String name, String[] words, String[] keys) {
+    }
+
+    /**
+     * Loads a snapshot. Entries put or removed while the snapshot was being read win over it.
+     */
+    synchronized void load(List<NameEntry> snapshot) {
+        for(NameEntry entry: snapshot) {
+            if(entry.id() == null || entries.containsKey(entry.id()) || removedBeforeLoad.contains(entry.id())) {
+                continue;
+            }
+            insert(entry.id(), entry.name());
+        }
+        removedBeforeLoad.clear();
+        loaded = true;
+    }
+
+    synchronized void put(long id, String name) {
+        delete(id);
+        insert(id, name);
+    }
+
+    synchronized void remove(long id) {
+        if(!loaded) {
+            removedBeforeLoad.add(id);
+        }
+        delete(id);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    List<NameEntry> suggest(String query, int limit) {
+        String[] queryWords = words(query);
+        if(queryWords.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        String first = queryWords[0];
+        Map<Long, NameEntry> found = new LinkedHashMap<>();
+        int scanned = 0;
+
+        for(Map.Entry<String, Long> key: keys.subMap(first, first + Character.MAX_VALUE).entrySet()) {
+            if(found.size() >= limit || ++scanned > limit * SCAN_FACTOR) {
+                break;
+            }
+            Long id = key.getValue();
+            Entry entry = entries.get(id);
+            if(entry == null || found.containsKey(id) || !matchesRest(entry.words(), queryWords)) {
+                continue;
+            }
+            found.put(id, new NameEntry(id, entry.name()));
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    static String[] words(String text) {
+        if(text == null) {
+            return new String[0];
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(NON_WORD.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(w -> !w.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Words of the text split like {@link #words}, but with case and accents kept, for matching
+     * against names as stored.
+     */
+    static String[] rawWords(String text) {
+        if(text == null) {
+            return new String[0];
+        }
+        return Arrays.stream(NON_WORD.split(Normalizer.normalize(text, Normalizer.Form.NFC)))
+                .filter(w -> !w.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private void insert(long id, String name) {
+        String[] words = words(name);
+        String normalized = String.join(" ", words);
+        Set<String> distinct = new LinkedHashSet<>(Arrays.asList(words));
+
+        String[] entryKeys = new String[distinct.size()];
+        int i = 0;
+        for(String word: distinct) {
+            entryKeys[i] = word + SEPARATOR + normalized + SEPARATOR + id;
+            keys.put(entryKeys[i], id);
+            i++;
+        }
+        entries.put(id, new Entry(name, words, entryKeys));
+    }
+
+    private void delete(long id) {
+        Entry existing = entries.remove(id);
+        if(existing != null) {
+            for(String key: existing.keys()) {
+                keys.remove(key);
+            }
+        }
+    }
+
+    // Every further query word must be a prefix of some word of the name.
+    private static boolean matchesRest(String[] nameWords, String[] queryWords) {
+        for(int q = 1; q < queryWords.length; q++) {
+            String prefix = queryWords[q];
+            if(Arrays.stream(nameWords).noneMatch(w -> w.startsWith(prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,141 @@
+package com.jspss.bandbooking.typeahead;
+
+import com.jspss.bandbooking.entities.Band;
+import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.repositories.BandRepository;
+import com.jspss.bandbooking.repositories.MusicianRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * In-memory typeahead over musician and band names, so suggestions are served without a
+ * database round trip. Warmed once at startup, then kept current by the services after
+ * each create, update or delete commits. Until it is ready (or when disabled) the services
+ * fall back to a database query that applies the index's word rules, so it returns the same
+ * names in the same order. The one difference left is accents, which the database compares as
+ * stored, so "zoe" finds "Zoë" only once warm.
+ */
+@Slf4j
+@Component
+public class TypeaheadIndex {
+
+    private final MusicianRepository musicianRepository;
+    private final BandRepository bandRepository;
+    private final boolean enabled;
+    private final int maxSuggestions;
+
+    private final NameIndex musicians = new NameIndex();
+    private final NameIndex bands = new NameIndex();
+    private volatile boolean ready;
+
+    public TypeaheadIndex(MusicianRepository musicianRepository,
+                          BandRepository bandRepository,
+                          @Value("${bandbooking.typeahead.enabled:true}") boolean enabled,
+                          @Value("${bandbooking.typeahead.max-suggestions:20}") int maxSuggestions) {
+        this.musicianRepository = musicianRepository;
+        this.bandRepository = bandRepository;
+        this.enabled = enabled;
+        this.maxSuggestions = Math.max(1, maxSuggestions);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if(!enabled) {
+            log.info("Typeahead index disabled, suggestions will use the database.");
+            return;
+        }
+        musicians.load(musicianRepository.findAllNames());
+        bands.load(bandRepository.findAllNames());
+        ready = true;
+
+        log.info("Typeahead index warmed. musicians={}, bands={}", musicians.size(), bands.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int resolveLimit(Integer requested) {
+        if(requested == null || requested < 1) {
+            return Math.min(10, maxSuggestions);
+        }
+        return Math.min(requested, maxSuggestions);
+    }
+
+    public List<NameEntry> suggestMusicians(String query, int limit) {
+        return musicians.suggest(query, limit);
+    }
+
+    public List<NameEntry> suggestBands(String query, int limit) {
+        return bands.suggest(query, limit);
+    }
+
+    public List<NameEntry> fallbackMusicians(String query, int limit) {
+        return fallback(query, limit, musicianRepository::findNamesMatchingWords);
+    }
+
+    public List<NameEntry> fallbackBands(String query, int limit) {
+        return fallback(query, limit, bandRepository::findNamesMatchingWords);
+    }
+
+    public void recordMusician(Musician musician) {
+        if(enabled && musician.getId() != null && musician.getFullName() != null) {
+            long id = musician.getId();
+            String name = musician.getFullName();
+            afterCommit(() -> musicians.put(id, name));
+        }
+    }
+
+    public void recordBand(Band band) {
+        if(enabled && band.getId() != null && band.getBandName() != null) {
+            long id = band.getId();
+            String name = band.getBandName();
+            afterCommit(() -> bands.put(id, name));
+        }
+    }
+
+    public void removeBand(Long id) {
+        if(enabled && id != null) {
+            afterCommit(() -> bands.remove(id));
+        }
+    }
+
+    // Same signature as the repositories' findNamesMatchingWords.
+    private interface WordQuery {
+        List<NameEntry> find(String word, String others, int limit);
+    }
+
+    // The query already picks the right names; passing them through a NameIndex applies the
+    // index's own tie-breaking to their order.
+    private static List<NameEntry> fallback(String query, int limit, WordQuery finder) {
+        String[] words = NameIndex.rawWords(query);
+        if(words.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String others = String.join(" ", Arrays.copyOfRange(words, 1, words.length));
+        NameIndex matches = new NameIndex();
+        matches.load(finder.find(words[0], others, limit));
+        return matches.suggest(query, limit);
+    }
+
+    private void afterCommit(Runnable action) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+-- Primary keys move from IDENTITY columns to sequences that Hibernate allocates in blocks of 50
+-- (pooled-lo optimizer), so inserts no longer have to run one by one to learn their ID and can be
+-- sent as JDBC batches.
+--
+-- Written to run both on an empty database and on one whose tables were created by
+-- ddl-auto: existing tables get their identity dropped, their sequence moved past the
+-- current MAX(id) and a nextval() default for inserts that don't go through Hibernate.
+
+CREATE SEQUENCE IF NOT EXISTS audit_logs_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS band_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS booking_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS client_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS instrument_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS music_style_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS musician_seq START WITH 1 INCREMENT BY 50;
+
+DO $$
+DECLARE
+    t RECORD;
+    max_id BIGINT;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('audit_logs', 'audit_logs_seq'),
+            ('band', 'band_seq'),
+            ('booking', 'booking_seq'),
+            ('client', 'client_seq'),
+            ('instrument', 'instrument_seq'),
+            ('music_style', 'music_style_seq'),
+            ('musician', 'musician_seq')
+        ) AS v(table_name, sequence_name)
+    LOOP
+        IF to_regclass(t.table_name) IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t.table_name);
+            EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', t.table_name) INTO max_id;
+            PERFORM setval(t.sequence_name, max_id + 1, false);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t.table_name, t.sequence_name);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,12 @@
+-- Supports GET /api/bookings?sort=GigStarts: the (gig_starts, id) keyset predicate and ORDER BY
+-- are answered by one index range scan. Paging by id uses the primary key.
+--
+-- On an empty database the table does not exist yet; ddl-auto creates it together with the
+-- index declared on the Booking entity.
+
+DO $$
+BEGIN
+    IF to_regclass('booking') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_booking_gig_starts_id ON booking (gig_starts, id);
+    END IF;
+END $$;
@@ -0,0 +1,27 @@
+-- Trigram (pg_trgm) GIN indexes for the name searches. They serve both the similarity
+-- operator (%) used by the fuzzy searches and ILIKE '%term%' used by the band and client
+-- searches, which otherwise scan the whole table.
+--
+-- Index creation is skipped for tables that ddl-auto has not created yet.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DO $$
+DECLARE
+    t RECORD;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('band', 'band_name', 'idx_band_name_trgm'),
+            ('musician', 'full_name', 'idx_musician_full_name_trgm'),
+            ('client', 'name', 'idx_client_name_trgm'),
+            ('client', 'email', 'idx_client_email_trgm'),
+            ('instrument', 'name', 'idx_instrument_name_trgm'),
+            ('music_style', 'name', 'idx_music_style_name_trgm')
+        ) AS v(table_name, column_name, index_name)
+    LOOP
+        IF to_regclass(t.table_name) IS NOT NULL THEN
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I USING gin (%I gin_trgm_ops)',
+                    t.index_name, t.table_name, t.column_name);
+        END IF;
+    END LOOP;
+END $$;
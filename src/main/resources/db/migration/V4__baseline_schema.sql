@@ -0,0 +1,146 @@
+-- Baseline schema. Flyway now owns the schema (ddl-auto=validate), so this creates every table
+-- the entities map to, then the indexes behind the repository queries.
+--
+-- Written to run both on an empty database and on one whose tables were created by ddl-auto:
+-- existing tables and indexes are left as they are. On an empty database V2 and V3 skipped
+-- their indexes because the tables did not exist yet, so they are created here as well.
+
+CREATE TABLE IF NOT EXISTS band (
+    id        BIGINT       NOT NULL DEFAULT nextval('band_seq') PRIMARY KEY,
+    band_name VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS client (
+    id           BIGINT       NOT NULL DEFAULT nextval('client_seq') PRIMARY KEY,
+    name         VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS instrument (
+    id   BIGINT NOT NULL DEFAULT nextval('instrument_seq') PRIMARY KEY,
+    name VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS music_style (
+    id   BIGINT NOT NULL DEFAULT nextval('music_style_seq') PRIMARY KEY,
+    name VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS musician (
+    id           BIGINT       NOT NULL DEFAULT nextval('musician_seq') PRIMARY KEY,
+    full_name    VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    state        VARCHAR(255) NOT NULL,
+    city         VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS booking (
+    id             BIGINT                      NOT NULL DEFAULT nextval('booking_seq') PRIMARY KEY,
+    band_id        BIGINT                      REFERENCES band (id),
+    client_id      BIGINT                      NOT NULL REFERENCES client (id),
+    state          VARCHAR(255)                NOT NULL,
+    city           VARCHAR(255)                NOT NULL,
+    gig_starts     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    gig_ends       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    booking_status VARCHAR(255)                NOT NULL
+        CHECK (booking_status IN ('Pending', 'Confirmed', 'Completed', 'Cancelled'))
+);
+
+CREATE TABLE IF NOT EXISTS audit_logs (
+    id          BIGINT NOT NULL DEFAULT nextval('audit_logs_seq') PRIMARY KEY,
+    action      VARCHAR(255),
+    entity_type VARCHAR(255),
+    entity_id   BIGINT,
+    details     VARCHAR(255),
+    trace_id    VARCHAR(255),
+    time_stamp  TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS band_members (
+    band_id     BIGINT NOT NULL REFERENCES band (id),
+    musician_id BIGINT NOT NULL REFERENCES musician (id)
+);
+
+CREATE TABLE IF NOT EXISTS band_style (
+    band_id       BIGINT NOT NULL REFERENCES band (id),
+    musicstyle_id BIGINT NOT NULL REFERENCES music_style (id)
+);
+
+CREATE TABLE IF NOT EXISTS band_required_instruments (
+    band_id       BIGINT NOT NULL REFERENCES band (id),
+    instrument_id BIGINT NOT NULL REFERENCES instrument (id)
+);
+
+CREATE TABLE IF NOT EXISTS booking_musicians (
+    booking_id  BIGINT NOT NULL REFERENCES booking (id),
+    musician_id BIGINT NOT NULL REFERENCES musician (id)
+);
+
+CREATE TABLE IF NOT EXISTS musician_instrument (
+    musician_id   BIGINT NOT NULL REFERENCES musician (id),
+    instrument_id BIGINT NOT NULL REFERENCES instrument (id)
+);
+
+CREATE TABLE IF NOT EXISTS musician_style (
+    musician_id BIGINT NOT NULL REFERENCES musician (id),
+    style_id    BIGINT NOT NULL REFERENCES music_style (id)
+);
+
+-- ---------------------------------------------------------------------------------------------
+-- booking
+-- ---------------------------------------------------------------------------------------------
+
+-- Band conflict check and the batched availability windows. Cancelled bookings never take
+-- part in either, so they are left out of the index.
+CREATE INDEX IF NOT EXISTS idx_booking_band_active
+    ON booking (band_id, gig_starts, gig_ends)
+    WHERE booking_status <> 'Cancelled';
+
+-- Booking summaries of a band or a client, returned ordered by (gig_starts, id).
+CREATE INDEX IF NOT EXISTS idx_booking_band_gig_starts ON booking (band_id, gig_starts, id);
+CREATE INDEX IF NOT EXISTS idx_booking_client_gig_starts ON booking (client_id, gig_starts, id);
+
+-- Bulk assignment reads the pending bookings of a date range in start order.
+CREATE INDEX IF NOT EXISTS idx_booking_pending_gig_starts
+    ON booking (gig_starts)
+    WHERE booking_status = 'Pending';
+
+-- Keyset paging by start time (from V2).
+CREATE INDEX IF NOT EXISTS idx_booking_gig_starts_id ON booking (gig_starts, id);
+
+-- ---------------------------------------------------------------------------------------------
+-- Join tables. Each one is reached from both sides, so it gets an index per direction; the
+-- second column makes the lookup index-only.
+-- ---------------------------------------------------------------------------------------------
+
+-- Musician conflicts and busy windows start from the musician.
+CREATE INDEX IF NOT EXISTS idx_booking_musicians_musician ON booking_musicians (musician_id, booking_id);
+CREATE INDEX IF NOT EXISTS idx_booking_musicians_booking ON booking_musicians (booking_id, musician_id);
+
+-- Available musicians of a band start from the band.
+CREATE INDEX IF NOT EXISTS idx_band_members_band ON band_members (band_id, musician_id);
+CREATE INDEX IF NOT EXISTS idx_band_members_musician ON band_members (musician_id, band_id);
+
+CREATE INDEX IF NOT EXISTS idx_band_style_band ON band_style (band_id, musicstyle_id);
+CREATE INDEX IF NOT EXISTS idx_band_style_style ON band_style (musicstyle_id, band_id);
+
+CREATE INDEX IF NOT EXISTS idx_band_required_instruments_band ON band_required_instruments (band_id, instrument_id);
+
+CREATE INDEX IF NOT EXISTS idx_musician_instrument_musician ON musician_instrument (musician_id, instrument_id);
+CREATE INDEX IF NOT EXISTS idx_musician_instrument_instrument ON musician_instrument (instrument_id, musician_id);
+
+CREATE INDEX IF NOT EXISTS idx_musician_style_musician ON musician_style (musician_id, style_id);
+CREATE INDEX IF NOT EXISTS idx_musician_style_style ON musician_style (style_id, musician_id);
+
+-- ---------------------------------------------------------------------------------------------
+-- Name searches (from V3)
+-- ---------------------------------------------------------------------------------------------
+
+CREATE INDEX IF NOT EXISTS idx_band_name_trgm ON band USING gin (band_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_musician_full_name_trgm ON musician USING gin (full_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_client_name_trgm ON client USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_client_email_trgm ON client USING gin (email gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_instrument_name_trgm ON instrument USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_music_style_name_trgm ON music_style USING gin (name gin_trgm_ops);
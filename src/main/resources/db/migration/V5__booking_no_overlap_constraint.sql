@@ -0,0 +1,34 @@
+-- Lets the database reject overlapping bookings of a band, so createBooking no longer needs a
+-- check-then-insert that two concurrent requests can both pass.
+--
+-- gig_period is derived from gig_starts/gig_ends and never written by the application. Bounds are
+-- inclusive on both ends, the same semantics as BookingRepository.findConflictBookings.
+-- Cancelled bookings are excluded from the constraint, as they are from availability checks.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE booking
+    ADD COLUMN IF NOT EXISTS gig_period TSTZRANGE
+        GENERATED ALWAYS AS (tstzrange(gig_starts, gig_ends, '[]')) STORED;
+
+-- Fail with a readable message, rather than the generic constraint error, when existing data
+-- already breaks the rule. Those bookings have to be cancelled or moved before migrating.
+DO $$
+DECLARE
+    overlaps TEXT;
+BEGIN
+    SELECT string_agg(a.id || '/' || b.id, ', ')
+    INTO overlaps
+    FROM booking a
+    JOIN booking b ON a.band_id = b.band_id AND a.id < b.id AND a.gig_period && b.gig_period
+    WHERE a.booking_status <> 'Cancelled' AND b.booking_status <> 'Cancelled';
+
+    IF overlaps IS NOT NULL THEN
+        RAISE EXCEPTION 'Overlapping active bookings of the same band (booking id pairs): %', overlaps;
+    END IF;
+END $$;
+
+ALTER TABLE booking
+    ADD CONSTRAINT booking_band_no_overlap
+    EXCLUDE USING gist (band_id WITH =, gig_period WITH &&)
+    WHERE (booking_status <> 'Cancelled');
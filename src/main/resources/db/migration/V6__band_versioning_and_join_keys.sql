@@ -0,0 +1,35 @@
+-- Optimistic locking for Band and Musician, and primary keys on the join tables now that the
+-- associations are mapped as sets: a membership change is a single-row insert or delete
+-- instead of rewriting every row of the owner.
+--
+-- Rows duplicated while the associations were lists are removed before the keys are added.
+-- Each key covers lookups by its first column, so the V4 index in the same order is dropped.
+
+ALTER TABLE band ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE musician ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+DO $$
+DECLARE
+    t RECORD;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('band_members', 'band_id', 'musician_id', 'idx_band_members_band'),
+            ('band_style', 'band_id', 'musicstyle_id', 'idx_band_style_band'),
+            ('band_required_instruments', 'band_id', 'instrument_id', 'idx_band_required_instruments_band'),
+            ('musician_instrument', 'musician_id', 'instrument_id', 'idx_musician_instrument_musician'),
+            ('musician_style', 'musician_id', 'style_id', 'idx_musician_style_musician')
+        ) AS v(table_name, owner_column, element_column, covered_index)
+    LOOP
+        EXECUTE format(
+                'DELETE FROM %1$I a USING %1$I b WHERE a.ctid > b.ctid AND a.%2$I = b.%2$I AND a.%3$I = b.%3$I',
+                t.table_name, t.owner_column, t.element_column);
+
+        IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                       WHERE conrelid = t.table_name::regclass AND contype = 'p') THEN
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (%I, %I)',
+                    t.table_name, t.table_name || '_pkey', t.owner_column, t.element_column);
+        END IF;
+
+        EXECUTE format('DROP INDEX IF EXISTS %I', t.covered_index);
+    END LOOP;
+END $$;
@@ -0,0 +1,13 @@
+-- Audit rows are inserted by the JDBC audit writer, not by Hibernate, and take their ID from
+-- the column default. With the V1 step of 50 every row burned 50 IDs, so the sequence now
+-- steps by one.
+--
+-- The last block handed to Hibernate's pooled-lo optimizer may have been used up to
+-- last_value + 49, so the sequence continues after whichever is higher: that block or MAX(id).
+
+ALTER SEQUENCE audit_logs_seq INCREMENT BY 1;
+
+SELECT setval('audit_logs_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM audit_logs),
+        (SELECT last_value + 49 FROM audit_logs_seq),
+        1));
@@ -0,0 +1,111 @@
+package com.jspss.bandbooking.assignment;
+
+import com.jspss.bandbooking.entities.Instrument;
+import com.jspss.bandbooking.entities.MusicStyle;
+import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MusicianAssignmentSolverTest {
+
+    @Test
+    void assign_findsFullAssignmentWhereGreedyFails() {
+        Instrument guitar = instrument("Guitar");
+        Instrument bass = instrument("Bass");
+        MusicStyle rock = style("Rock");
+        MusicStyle funk = style("Funk");
+
+        Musician multiInstrumentalist = musician(List.of(guitar, bass), List.of(rock, funk));
+        Musician guitarist = musician(List.of(guitar), List.of(rock));
+
+        List<Musician> result = MusicianAssignmentSolver.assign(
+                List.of(guitar, bass),
+                List.of(rock, funk),
+                List.of(multiInstrumentalist, guitarist)
+        );
+
+        assertEquals(List.of(guitarist, multiInstrumentalist), result);
+    }
+
+    @Test
+    void assign_prefersHighestStyleOverlap() {
+        Instrument drums = instrument("Drums");
+        MusicStyle rock = style("Rock");
+        MusicStyle jazz = style("Jazz");
+
+        Musician oneStyle = musician(List.of(drums), List.of(rock));
+        Musician twoStyles = musician(List.of(drums), List.of(rock, jazz));
+
+        List<Musician> result = MusicianAssignmentSolver.assign(
+                List.of(drums),
+                List.of(rock, jazz),
+                List.of(oneStyle, twoStyles)
+        );
+
+        assertEquals(List.of(twoStyles), result);
+    }
+
+    @Test
+    void assign_whenInstrumentsCannotAllBeCovered_throwsBadRequest() {
+        Instrument guitar = instrument("Guitar");
+        MusicStyle rock = style("Rock");
+
+        Musician guitarist = musician(List.of(guitar), List.of(rock));
+
+        assertThrows(BadRequestException.class, ()-> MusicianAssignmentSolver.assign(
+                List.of(guitar, guitar),
+                List.of(rock),
+                List.of(guitarist)
+        ));
+    }
+
+    @Test
+    void assign_ignoresMusiciansWithoutSharedStyle() {
+        Instrument guitar = instrument("Guitar");
+        MusicStyle rock = style("Rock");
+        MusicStyle jazz = style("Jazz");
+
+        Musician jazzGuitarist = musician(List.of(guitar), List.of(jazz));
+
+        assertThrows(BadRequestException.class, ()-> MusicianAssignmentSolver.assign(
+                List.of(guitar),
+                List.of(rock),
+                List.of(jazzGuitarist)
+        ));
+    }
+
+    @Test
+    void solve_leavesUnfillableSlotsUnassigned() {
+        BitSet guitarOnly = new BitSet();
+        guitarOnly.set(0);
+
+        int[] result = MusicianAssignmentSolver.solve(new int[]{0, 1}, new BitSet[]{guitarOnly}, new int[]{1});
+
+        assertArrayEquals(new int[]{0, -1}, result);
+    }
+
+    private Instrument instrument(String name) {
+        Instrument instrument = new Instrument();
+        instrument.setName(name);
+        return instrument;
+    }
+
+    private MusicStyle style(String name) {
+        MusicStyle style = new MusicStyle();
+        style.setName(name);
+        return style;
+    }
+
+    private Musician musician(List<Instrument> instruments, List<MusicStyle> styles) {
+        Musician musician = new Musician();
+        musician.setInstruments(new HashSet<>(instruments));
+        musician.setMusicStyles(new HashSet<>(styles));
+        return musician;
+    }
+}
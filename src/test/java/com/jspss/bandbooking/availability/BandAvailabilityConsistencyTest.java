@@ -0,0 +1,86 @@
+package com.jspss.bandbooking.availability;
+
+import com.jspss.bandbooking.entities.Booking;
+import com.jspss.bandbooking.services.BookingService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs availability checks under the test profile, where
+ * {@code bandbooking.availability.index.consistency-check=true}: every answer of the warmed index
+ * is compared with the conflict query, and a mismatch fails with {@link IllegalStateException}.
+ * Bookings go through {@link BookingService} so the index is kept current the way it is in
+ * production. Skipped when Docker is not available.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BandAvailabilityConsistencyTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static final ZonedDateTime GIG_STARTS = ZonedDateTime.parse("2026-06-01T20:00:00Z");
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BandAvailabilityIndex bandAvailabilityIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("INSERT INTO band (id, band_name) SELECT g, 'Band ' || g FROM generate_series(1, 3) g");
+        jdbcTemplate.execute("INSERT INTO client (id, name, phone_number, email) VALUES (1, 'Client 1', '555-0100', 'client1@example.com')");
+    }
+
+    @Test
+    void isBandAvailable_afterBooking_indexAgreesWithDatabase() {
+        assertTrue(bandAvailabilityIndex.isReady());
+        assertTrue(bandAvailabilityIndex.isConsistencyCheck());
+        bookingService.createBooking(1L, 1L, GIG_STARTS, GIG_STARTS.plusHours(3), "Duluth", "MN");
+
+        assertFalse(bookingService.isBandAvailable(1L, GIG_STARTS.plusHours(1), GIG_STARTS.plusHours(2)));
+        assertFalse(bookingService.isBandAvailable(1L, GIG_STARTS.minusHours(1), GIG_STARTS.plusHours(1)));
+        assertTrue(bookingService.isBandAvailable(1L, GIG_STARTS.plusHours(4), GIG_STARTS.plusHours(6)));
+        assertTrue(bookingService.isBandAvailable(1L, GIG_STARTS.minusHours(3), GIG_STARTS.minusHours(1)));
+    }
+
+    @Test
+    void isBandAvailable_afterCancellation_indexAgreesWithDatabase() {
+        Booking booking = bookingService.createBooking(1L, 2L, GIG_STARTS, GIG_STARTS.plusHours(3), "Duluth", "MN");
+        bookingService.cancelBooking(booking.getId());
+
+        assertTrue(bookingService.isBandAvailable(2L, GIG_STARTS.plusHours(1), GIG_STARTS.plusHours(2)));
+    }
+
+    // A booking written behind the index's back shows the comparison is live under this profile.
+    @Test
+    void isBandAvailable_whenIndexMissesBooking_failsUnderTestProfile() {
+        jdbcTemplate.update("""
+                INSERT INTO booking (id, band_id, client_id, state, city, gig_starts, gig_ends, booking_status)
+                VALUES (1000000, 3, 1, 'MN', 'Duluth', ?, ?, 'Confirmed')
+                """, GIG_STARTS.toOffsetDateTime(), GIG_STARTS.plusHours(3).toOffsetDateTime());
+
+        assertThrows(IllegalStateException.class,
+                () -> bookingService.isBandAvailable(3L, GIG_STARTS.plusHours(1), GIG_STARTS.plusHours(2)));
+    }
+}
@@ -0,0 +1,129 @@
+package com.jspss.bandbooking.availability;
+
+import com.jspss.bandbooking.entities.Band;
+import com.jspss.bandbooking.entities.Booking;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+import com.jspss.bandbooking.repositories.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BandAvailabilityIndexTest {
+
+    private static final ZonedDateTime BASE = ZonedDateTime.of(2026, 3, 15, 18, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BandAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BandAvailabilityIndex(bookingRepository, true, false);
+    }
+
+    @Test
+    void warmUp_loadsActiveWindowsAndBecomesReady() {
+        when(bookingRepository.findActiveBookingWindows()).thenReturn(List.of(
+                new BookingWindow(1L, 10L, BASE, BASE.plusHours(2)),
+                new BookingWindow(2L, 10L, BASE.plusDays(1), BASE.plusDays(1).plusHours(3)),
+                new BookingWindow(3L, 20L, BASE, BASE.plusHours(1))
+        ));
+
+        index.warmUp();
+
+        assertTrue(index.isReady());
+        assertEquals(2, index.size(10L));
+        assertEquals(1, index.size(20L));
+    }
+
+    @Test
+    void warmUp_whenDisabled_staysNotReady() {
+        index = new BandAvailabilityIndex(bookingRepository, false, false);
+
+        index.warmUp();
+
+        assertFalse(index.isReady());
+        verify(bookingRepository, never()).findActiveBookingWindows();
+    }
+
+    @Test
+    void isAvailable_matchesInclusiveConflictQuery() {
+        index.load(List.of(new BookingWindow(1L, 10L, BASE, BASE.plusHours(2))));
+
+        assertFalse(index.isAvailable(10L, BASE.plusHours(1), BASE.plusHours(3)));
+        assertFalse(index.isAvailable(10L, BASE.minusHours(1), BASE));
+        assertFalse(index.isAvailable(10L, BASE.plusHours(2), BASE.plusHours(4)));
+        assertTrue(index.isAvailable(10L, BASE.plusHours(2).plusMinutes(1), BASE.plusHours(4)));
+        assertTrue(index.isAvailable(20L, BASE, BASE.plusHours(2)));
+    }
+
+    @Test
+    void isAvailable_detectsLongWindowStartingBeforeShorterOnes() {
+        index.load(List.of(
+                new BookingWindow(1L, 10L, BASE, BASE.plusDays(3)),
+                new BookingWindow(2L, 10L, BASE.plusHours(1), BASE.plusHours(2))
+        ));
+
+        assertFalse(index.isAvailable(10L, BASE.plusDays(2), BASE.plusDays(2).plusHours(1)));
+    }
+
+    @Test
+    void record_addsAndRemovesBookings() {
+        index.load(List.of());
+
+        Booking booking = booking(5L, 10L, BookingStatus.Pending);
+        index.record(booking);
+
+        assertFalse(index.isAvailable(10L, BASE, BASE.plusHours(1)));
+
+        booking.setBookingStatus(BookingStatus.Cancelled);
+        index.record(booking);
+
+        assertTrue(index.isAvailable(10L, BASE, BASE.plusHours(1)));
+        assertEquals(0, index.size(10L));
+    }
+
+    @Test
+    void load_keepsChangesRecordedDuringWarmUp() {
+        index.record(booking(5L, 10L, BookingStatus.Pending));
+        index.record(booking(1L, 10L, BookingStatus.Cancelled));
+
+        index.load(List.of(new BookingWindow(1L, 10L, BASE.plusDays(1), BASE.plusDays(1).plusHours(2))));
+
+        assertFalse(index.isAvailable(10L, BASE, BASE.plusHours(1)));
+        assertTrue(index.isAvailable(10L, BASE.plusDays(1), BASE.plusDays(1).plusHours(1)));
+    }
+
+    @Test
+    void evictBand_dropsSchedule() {
+        index.load(List.of(new BookingWindow(1L, 10L, BASE, BASE.plusHours(2))));
+
+        index.evictBand(10L);
+
+        assertTrue(index.isAvailable(10L, BASE, BASE.plusHours(2)));
+    }
+
+    private Booking booking(Long id, Long bandId, BookingStatus status) {
+        Band band = new Band();
+        band.setId(bandId);
+
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setBand(band);
+        booking.setGigStarts(BASE);
+        booking.setGigEnds(BASE.plusHours(2));
+        booking.setBookingStatus(status);
+        return booking;
+    }
+}
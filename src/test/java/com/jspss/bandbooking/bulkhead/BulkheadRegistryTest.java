@@ -0,0 +1,79 @@
+package com.jspss.bandbooking.bulkhead;
+
+import com.jspss.bandbooking.exceptions.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void acquire_whenLaneFull_rejectsAfterMaxWait() {
+        BulkheadRegistry bulkheads = registry(true);
+        bulkheads.acquire(BulkheadLane.Assignment);
+
+        BulkheadFullException ex = assertThrows(BulkheadFullException.class,
+                () -> bulkheads.acquire(BulkheadLane.Assignment));
+
+        assertEquals(Duration.ofSeconds(2), ex.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("bandbooking.bulkhead.rejected").tag("lane", "assignment").counter().count());
+        assertEquals(0, bulkheads.getWaiting(BulkheadLane.Assignment));
+    }
+
+    @Test
+    void acquire_whenOtherLaneFull_isNotBlocked() {
+        BulkheadRegistry bulkheads = registry(true);
+        bulkheads.acquire(BulkheadLane.Assignment);
+
+        bulkheads.acquire(BulkheadLane.Read);
+
+        assertEquals(1, bulkheads.getActive(BulkheadLane.Read));
+        assertEquals(1.0, meterRegistry.get("bandbooking.bulkhead.active").tag("lane", "assignment").gauge().value());
+    }
+
+    @Test
+    void acquire_whenExportRunning_rejectsSecondExportAndLeavesSearchFree() {
+        BulkheadRegistry bulkheads = registry(true);
+        bulkheads.acquire(BulkheadLane.Export);
+
+        assertThrows(BulkheadFullException.class, () -> bulkheads.acquire(BulkheadLane.Export));
+        bulkheads.acquire(BulkheadLane.Search);
+
+        assertEquals(1, bulkheads.getActive(BulkheadLane.Search));
+    }
+
+    @Test
+    void execute_releasesPermitWhenWorkFails() {
+        BulkheadRegistry bulkheads = registry(true);
+
+        assertThrows(IllegalStateException.class, () -> bulkheads.execute(BulkheadLane.Assignment, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, bulkheads.getActive(BulkheadLane.Assignment));
+        assertEquals("ok", bulkheads.execute(BulkheadLane.Assignment, () -> "ok"));
+    }
+
+    @Test
+    void acquire_whenDisabled_neverRejects() {
+        BulkheadRegistry bulkheads = registry(false);
+
+        bulkheads.acquire(BulkheadLane.Assignment);
+        bulkheads.acquire(BulkheadLane.Assignment);
+
+        assertEquals(0, bulkheads.getActive(BulkheadLane.Assignment));
+    }
+
+    private BulkheadRegistry registry(boolean enabled) {
+        return new BulkheadRegistry(meterRegistry, enabled, Duration.ofSeconds(2),
+                1, Duration.ofMillis(10),
+                1, Duration.ofMillis(10),
+                2, Duration.ofMillis(10),
+                1, Duration.ZERO);
+    }
+}
@@ -0,0 +1,31 @@
+package com.jspss.bandbooking.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    void ofVersion_changesWithVersion() {
+        assertEquals("band-7-3", ETags.ofVersion("band", 7L, 3L));
+        assertNotEquals(ETags.ofVersion("band", 7L, 3L), ETags.ofVersion("band", 7L, 4L));
+    }
+
+    @Test
+    void ofRows_isStableForSameRows() {
+        assertEquals(ETags.ofRows("instruments", List.of("1:Bass", "2:Drums"), row -> row),
+                ETags.ofRows("instruments", List.of("1:Bass", "2:Drums"), row -> row));
+    }
+
+    @Test
+    void ofRows_changesWhenARowChanges() {
+        String before = ETags.ofRows("instruments", List.of("1:Bass", "2:Drums"), row -> row);
+
+        assertNotEquals(before, ETags.ofRows("instruments", List.of("1:Bass", "2:Drum kit"), row -> row));
+        assertNotEquals(before, ETags.ofRows("instruments", List.of("1:Bass"), row -> row));
+        assertNotEquals(before, ETags.ofRows("instruments", List.of("1:Bass2:Drums"), row -> row));
+    }
+}
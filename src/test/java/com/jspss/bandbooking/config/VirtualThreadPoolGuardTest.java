@@ -0,0 +1,89 @@
+package com.jspss.bandbooking.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadPoolGuardTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void close_releasesPermitOnlyOnce() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        VirtualThreadPoolGuard.AdmissionDataSource admission = new VirtualThreadPoolGuard.AdmissionDataSource(target, 2);
+
+        Connection first = admission.getConnection();
+        admission.getConnection();
+        first.close();
+        first.close();
+
+        assertEquals(1, admission.availablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_whenPoolThrows_releasesPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+        VirtualThreadPoolGuard.AdmissionDataSource admission = new VirtualThreadPoolGuard.AdmissionDataSource(target, 1);
+
+        assertThrows(SQLTransientConnectionException.class, admission::getConnection);
+
+        assertEquals(1, admission.availablePermits());
+    }
+
+    @Test
+    void getConnection_whenPermitsExhausted_failsWithoutTouchingPool() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        VirtualThreadPoolGuard.AdmissionDataSource admission = new VirtualThreadPoolGuard.AdmissionDataSource(target, 1);
+        Connection held = admission.getConnection();
+
+        SQLTransientConnectionException ex = assertThrows(SQLTransientConnectionException.class, admission::getConnection);
+
+        assertEquals("Too many requests waiting for a database connection.", ex.getMessage());
+        verify(target, times(1)).getConnection();
+
+        held.close();
+        assertNotNull(admission.getConnection());
+    }
+
+    @Test
+    void postProcess_wrapsHikariAndStillUnwrapsToIt() throws SQLException {
+        HikariDataSource hikari = new HikariDataSource();
+        hikari.setMaximumPoolSize(10);
+        hikari.setConnectionTimeout(30_000);
+        VirtualThreadPoolGuard guard = new VirtualThreadPoolGuard(Duration.ofSeconds(2), 4);
+
+        Object wrapped = guard.postProcessAfterInitialization(hikari, "dataSource");
+
+        VirtualThreadPoolGuard.AdmissionDataSource admission =
+                assertInstanceOf(VirtualThreadPoolGuard.AdmissionDataSource.class, wrapped);
+        assertEquals(40, admission.availablePermits());
+        assertEquals(2_000, hikari.getConnectionTimeout());
+        assertTrue(admission.isWrapperFor(HikariDataSource.class));
+        assertSame(hikari, admission.unwrap(HikariDataSource.class));
+    }
+
+    @Test
+    void postProcess_leavesOtherBeansAlone() {
+        VirtualThreadPoolGuard guard = new VirtualThreadPoolGuard(Duration.ofSeconds(2), 4);
+
+        assertSame(target, guard.postProcessAfterInitialization(target, "other"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.jspss.bandbooking.logging;
+
+import com.jspss.bandbooking.entities.AuditLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearSynchronization() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void submit_whenNotRunning_writesSynchronously() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP);
+
+        writer.submit(entry("CREATE_BAND"));
+
+        verify(jdbcTemplate).batchUpdate(eq(AuditLogWriter.INSERT_SQL), anyList(), any(int[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stop_flushesQueuedEntriesInBatches() {
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, transactionManager, true, 100, 2,
+                Duration.ofMillis(200), AuditLogWriter.OverflowPolicy.DROP, Duration.ZERO);
+        writer.start();
+
+        writer.submit(entry("A"));
+        writer.submit(entry("B"));
+        writer.submit(entry("C"));
+        writer.stop();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(eq(AuditLogWriter.INSERT_SQL), rows.capture(), any(int[].class));
+
+        assertEquals(3, rows.getAllValues().stream().mapToInt(List::size).sum());
+        assertTrue(rows.getAllValues().stream().allMatch(batch -> batch.size() <= 2));
+        assertEquals(0, writer.getQueueDepth());
+        assertFalse(writer.isRunning());
+    }
+
+    @Test
+    void submit_inTransactionThatRollsBack_writesNothing() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP);
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.submit(entry("UPDATE_BAND"));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void submit_inTransaction_writesOnlyAfterCommit() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP);
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.submit(entry("UPDATE_BAND"));
+        verifyNoInteractions(jdbcTemplate);
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        verify(jdbcTemplate).batchUpdate(eq(AuditLogWriter.INSERT_SQL), anyList(), any(int[].class));
+    }
+
+    @Test
+    void submit_afterStop_writesSynchronously() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP);
+        writer.start();
+        writer.stop();
+
+        writer.submit(entry("LATE"));
+
+        verify(jdbcTemplate).batchUpdate(eq(AuditLogWriter.INSERT_SQL), anyList(), any(int[].class));
+        assertEquals(0, writer.getQueueDepth());
+    }
+
+    private AuditLogWriter writer(int capacity, AuditLogWriter.OverflowPolicy policy) {
+        return new AuditLogWriter(jdbcTemplate, transactionManager, true, capacity, 10, Duration.ofMillis(50), policy, Duration.ZERO);
+    }
+
+    private AuditLog entry(String action) {
+        AuditLog log = new AuditLog();
+        log.setAction(action);
+        log.setEntityType("Band");
+        log.setTraceId("trace-1");
+        log.setTimeStamp(ZonedDateTime.now());
+        return log;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jspss.bandbooking.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MdcPropagatingAsyncTaskExecutorTest {
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void submit_onVirtualThread_seesCallerTraceId() throws Exception {
+        SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("test-");
+        virtual.setVirtualThreads(true);
+        MdcPropagatingAsyncTaskExecutor executor = new MdcPropagatingAsyncTaskExecutor(virtual);
+
+        MDC.put("traceId", "abc123");
+        String seen = executor.submit(() -> Thread.currentThread().isVirtual() + ":" + MDC.get("traceId"))
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("true:abc123", seen);
+    }
+
+    @Test
+    void execute_onCallingThread_restoresPreviousContext() {
+        MdcPropagatingAsyncTaskExecutor executor =
+                new MdcPropagatingAsyncTaskExecutor(new TaskExecutorAdapter(new SyncTaskExecutor()));
+
+        MDC.put("traceId", "outer");
+        executor.execute(() -> MDC.put("traceId", "inner"));
+
+        assertEquals("outer", MDC.get("traceId"));
+    }
+}
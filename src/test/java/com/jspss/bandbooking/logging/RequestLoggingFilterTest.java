@@ -0,0 +1,105 @@
+package com.jspss.bandbooking.logging;
+
+import com.jspss.bandbooking.sql.SqlBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLoggingFilterTest {
+
+    private static final SqlBudget SQL_BUDGET =
+            new SqlBudget(new SimpleMeterRegistry(), false, 30, "", false, Duration.ofMillis(200));
+
+    private final RequestLoggingFilter filter = new RequestLoggingFilter(SQL_BUDGET, Duration.ofSeconds(1), 1.0, "");
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void doFilter_usesTraceparentIdAndEchoesIt() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bands/1");
+        request.addHeader("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        request.addHeader("X-Trace-Id", "ignored-because-traceparent-wins");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, capture(seen));
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", seen.get());
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", response.getHeader("X-Trace-Id"));
+        assertNull(MDC.get("traceId"));
+    }
+
+    @Test
+    void doFilter_withoutHeaders_generatesIdAndClearsMdcKey() throws Exception {
+        MDC.put("other", "kept");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/bands/1"), response, capture(seen));
+
+        assertTrue(seen.get().matches("[0-9a-f]{32}"));
+        assertEquals(seen.get(), response.getHeader("X-Trace-Id"));
+        assertNull(MDC.get("traceId"));
+        assertEquals("kept", MDC.get("other"));
+    }
+
+    @Test
+    void resolveTraceId_onErrorDispatch_reusesResponseId() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/error");
+        request.setDispatcherType(DispatcherType.ERROR);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader("X-Trace-Id", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", RequestLoggingFilter.resolveTraceId(request, response));
+    }
+
+    @Test
+    void resolveTraceId_onRequestDispatch_ignoresResponseId() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader("X-Trace-Id", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        String traceId = RequestLoggingFilter.resolveTraceId(new MockHttpServletRequest("GET", "/api/bands/1"), response);
+
+        assertNotEquals("4bf92f3577b34da6a3ce929d0e0e4736", traceId);
+    }
+
+    @Test
+    void sampled_usesLongestMatchingRoutePrefix() {
+        RequestLoggingFilter filter = new RequestLoggingFilter(SQL_BUDGET, Duration.ofSeconds(1), 1.0,
+                "/api/bookings=0, /api/bookings/export=1.0");
+
+        assertFalse(filter.sampled("/api/bookings/{bookingId}"));
+        assertTrue(filter.sampled("/api/bookings/export"));
+        assertTrue(filter.sampled("/api/bands/{id}"));
+    }
+
+    @Test
+    void sampled_withZeroDefaultRate_logsNothing() {
+        RequestLoggingFilter filter = new RequestLoggingFilter(SQL_BUDGET, Duration.ofSeconds(1), 0.0, "");
+
+        assertFalse(filter.sampled("/api/bands/{id}"));
+    }
+
+    @Test
+    void constructor_rejectsMalformedRates() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RequestLoggingFilter(SQL_BUDGET, Duration.ofSeconds(1), 1.0, "/api/search"));
+    }
+
+    private static FilterChain capture(AtomicReference<String> seen) {
+        return (req, res) -> seen.set(MDC.get("traceId"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.jspss.bandbooking.logging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceIdsTest {
+
+    @Test
+    void generate_returns32HexDigits() {
+        String id = TraceIds.generate();
+
+        assertTrue(id.matches("[0-9a-f]{32}"), id);
+        assertNotEquals(id, TraceIds.generate());
+    }
+
+    @Test
+    void fromTraceparent_extractsTraceId() {
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736",
+                TraceIds.fromTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+    }
+
+    @Test
+    void fromTraceparent_rejectsMalformedAndAllZeroIds() {
+        assertNull(TraceIds.fromTraceparent("00-xyz-00f067aa0ba902b7-01"));
+        assertNull(TraceIds.fromTraceparent("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertNull(TraceIds.fromTraceparent(null));
+    }
+
+    @Test
+    void fromHeader_rejectsValuesUnsafeToLog() {
+        assertEquals("client-trace-123", TraceIds.fromHeader(" client-trace-123 "));
+        assertNull(TraceIds.fromHeader("abc"));
+        assertNull(TraceIds.fromHeader("id-with\nnewline"));
+    }
+}
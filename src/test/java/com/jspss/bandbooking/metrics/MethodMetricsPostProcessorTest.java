@@ -0,0 +1,52 @@
+package com.jspss.bandbooking.metrics;
+
+import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.mappers.BookingMapper;
+import com.jspss.bandbooking.retry.OptimisticLockRetry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MethodMetricsPostProcessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MethodMetricsPostProcessor postProcessor = new MethodMetricsPostProcessor(
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+
+    @Test
+    void mapperCalls_areTimedByOutcome() {
+        BookingMapper mapper = (BookingMapper) postProcessor.postProcessAfterInitialization(new BookingMapper(), "bookingMapper");
+
+        mapper.toMusicianSummary(new Musician());
+        assertThrows(NullPointerException.class, () -> mapper.toMusicianSummary(null));
+
+        Timer success = meterRegistry.get(MethodTimingInterceptor.TIMER)
+                .tags("layer", "mapper", "operation", "BookingMapper.toMusicianSummary", "outcome", "success")
+                .timer();
+        Timer error = meterRegistry.get(MethodTimingInterceptor.TIMER)
+                .tags("outcome", "error", "exception", "NullPointerException")
+                .timer();
+        assertEquals(1, success.count());
+        assertEquals(1, error.count());
+    }
+
+    @Test
+    void otherBeans_areLeftUnproxied() {
+        OptimisticLockRetry retry = new OptimisticLockRetry(mock(PlatformTransactionManager.class), 1, Duration.ZERO);
+
+        Object processed = postProcessor.postProcessAfterInitialization(retry, "optimisticLockRetry");
+
+        assertSame(retry, processed);
+        assertFalse(AopUtils.isAopProxy(processed));
+    }
+}
@@ -0,0 +1,149 @@
+package com.jspss.bandbooking.repositories;
+
+import com.jspss.bandbooking.entities.Band;
+import com.jspss.bandbooking.entities.Instrument;
+import com.jspss.bandbooking.entities.MusicStyle;
+import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.mappers.BandMapper;
+import com.jspss.bandbooking.mappers.MusicianMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards against N+1 loading of the Band and Musician collections: the number of SQL
+ * statements needed to render a list must not grow with the number of rows.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false"
+})
+class FetchStatementCountTest {
+
+    private static final int MUSICIANS = 60;
+    private static final int BANDS = 12;
+
+    @Autowired
+    private MusicianRepository musicianRepository;
+
+    @Autowired
+    private BandRepository bandRepository;
+
+    @Autowired
+    private InstrumentRepository instrumentRepository;
+
+    @Autowired
+    private MusicStyleRepository musicStyleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final MusicianMapper musicianMapper = new MusicianMapper();
+    private final BandMapper bandMapper = new BandMapper();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Instrument> instruments = new ArrayList<>();
+        List<MusicStyle> styles = new ArrayList<>();
+        for(int i = 0; i < 3; i++) {
+            Instrument instrument = new Instrument();
+            instrument.setName("Instrument " + i);
+            instruments.add(instrumentRepository.save(instrument));
+
+            MusicStyle style = new MusicStyle();
+            style.setName("Style " + i);
+            styles.add(musicStyleRepository.save(style));
+        }
+
+        List<Musician> musicians = new ArrayList<>();
+        for(int i = 0; i < MUSICIANS; i++) {
+            Musician musician = new Musician();
+            musician.setFullName("Musician " + i);
+            musician.setPhoneNumber("555-555-5555");
+            musician.setEmail("musician" + i + "@example.com");
+            musician.setCity("Austin");
+            musician.setState("TX");
+            musician.setInstruments(new HashSet<>(List.of(instruments.get(i % 3), instruments.get((i + 1) % 3))));
+            musician.setMusicStyles(new HashSet<>(List.of(styles.get(i % 3), styles.get((i + 1) % 3))));
+            musicians.add(musicianRepository.save(musician));
+        }
+
+        for(int i = 0; i < BANDS; i++) {
+            Band band = new Band();
+            band.setBandName("Band " + i);
+            band.setBandMembers(new HashSet<>(musicians.subList(i * 5, i * 5 + 5)));
+            band.setMusicStyles(new HashSet<>(List.of(styles.get(i % 3))));
+            band.setRequiredInstruments(new HashSet<>(List.of(instruments.get(i % 3), instruments.get((i + 2) % 3))));
+            bandRepository.save(band);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void musicianPage_toSummary_loadsCollectionsInBatches() {
+        List<Musician> page = musicianRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(MUSICIANS + 1));
+        page.forEach(musicianMapper::toSummary);
+
+        assertEquals(MUSICIANS, page.size());
+        // page query + two batches (50 + 10) for each of instruments and styles
+        assertTrue(statements() <= 5, "statements=" + statements());
+    }
+
+    @Test
+    void allMusicians_toDTO_fetchesInstrumentsWithQuery() {
+        List<Musician> musicians = musicianRepository.findAll();
+        musicians.forEach(musicianMapper::toDTO);
+
+        assertEquals(MUSICIANS, musicians.size());
+        // one query with instruments + two batches for each of styles, bands and bookings
+        assertTrue(statements() <= 7, "statements=" + statements());
+    }
+
+    @Test
+    void bandPage_toSummary_loadsMembersInOneBatch() {
+        List<Band> page = bandRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(BANDS + 1));
+        page.forEach(bandMapper::toSummaryDTO);
+
+        assertEquals(BANDS, page.size());
+        assertTrue(statements() <= 2, "statements=" + statements());
+    }
+
+    @Test
+    void bandSearch_toDTO_fetchesMembersWithQuery() {
+        List<Band> bands = bandRepository.findByBandNameContainingIgnoreCase("band");
+        bands.forEach(bandMapper::toDTO);
+
+        assertEquals(BANDS, bands.size());
+        assertTrue(bands.stream().allMatch(b -> b.getBandMembers().size() == 5));
+        // one query with members + one batch each for styles and required instruments
+        assertTrue(statements() <= 3, "statements=" + statements());
+    }
+
+    private long statements() {
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,255 @@
+package com.jspss.bandbooking.repositories;
+
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations against a real PostgreSQL and checks, with EXPLAIN, that the hot
+ * repository queries are answered from the indexes the migrations create. Each test calls the
+ * repository method itself; the pool is wrapped to record the SQL Hibernate sent and the
+ * parameters bound to it, and that statement is replayed under EXPLAIN. A change to a
+ * repository query is therefore checked as written.
+ * <p>
+ * Hibernate validates the entities against the migrated schema on startup, so this also fails
+ * when a migration and an entity drift apart. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(QueryPlanTest.CapturingConfig.class)
+class QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static final ZonedDateTime GIG_FROM = ZonedDateTime.parse("2026-03-01T00:00:00Z");
+    private static final ZonedDateTime GIG_TO = ZonedDateTime.parse("2026-03-08T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MusicianRepository musicianRepository;
+
+    // 20 bands, 100 clients, 200 musicians and 5000 bookings, 70% of them cancelled, so the
+    // planner has realistic statistics to choose between the indexes.
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("""
+                INSERT INTO band (id, band_name)
+                SELECT g, 'Band ' || g FROM generate_series(1, 20) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO client (id, name, phone_number, email)
+                SELECT g, 'Client ' || g, '555-0100', 'client' || g || '@example.com' FROM generate_series(1, 100) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO musician (id, full_name, phone_number, email, state, city)
+                SELECT g, 'Musician ' || g, '555-0100', 'musician' || g || '@example.com', 'MN', 'Duluth'
+                FROM generate_series(1, 200) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO band_members (band_id, musician_id)
+                SELECT 1 + g % 20, g FROM generate_series(1, 200) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO booking (id, band_id, client_id, state, city, gig_starts, gig_ends, booking_status)
+                SELECT g, 1 + g % 20, 1 + g % 100, 'MN', 'Duluth',
+                       TIMESTAMPTZ '2026-01-01 00:00:00+00' + g * INTERVAL '2 hours',
+                       TIMESTAMPTZ '2026-01-01 03:00:00+00' + g * INTERVAL '2 hours',
+                       CASE WHEN g % 10 = 0 THEN 'Pending'
+                            WHEN g % 10 IN (1, 2) THEN 'Confirmed'
+                            ELSE 'Cancelled' END
+                FROM generate_series(1, 5000) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO booking_musicians (booking_id, musician_id)
+                SELECT g, 1 + (g + k) % 200 FROM generate_series(1, 5000) g, generate_series(0, 2) k
+                """);
+        jdbcTemplate.execute("ANALYZE");
+        CapturingDataSource.clear();
+    }
+
+    @Test
+    void findConflictBookings_usesPartialBandIndex() {
+        bookingRepository.findConflictBookings(1L, GIG_FROM, GIG_TO);
+        assertUsesIndex("idx_booking_band_active");
+    }
+
+    @Test
+    void findActiveBookingWindows_forBands_usesPartialBandIndex() {
+        bookingRepository.findActiveBookingWindows(List.of(1L, 2L, 3L), GIG_FROM, GIG_TO);
+        assertUsesIndex("idx_booking_band_active");
+    }
+
+    @Test
+    void findSummariesByBandId_usesBandIndex() {
+        bookingRepository.findSummariesByBandId(1L);
+        assertUsesIndex("idx_booking_band_gig_starts");
+    }
+
+    @Test
+    void findSummariesByClientId_usesClientIndex() {
+        bookingRepository.findSummariesByClientId(1L);
+        assertUsesIndex("idx_booking_client_gig_starts");
+    }
+
+    @Test
+    void findMusicianConflicts_usesMusicianJoinIndex() {
+        bookingRepository.findMusicianConflicts(1L, GIG_FROM, GIG_TO);
+        assertUsesIndex("idx_booking_musicians_musician");
+    }
+
+    @Test
+    void findAvailableMusicians_usesBandMembersKey() {
+        musicianRepository.findAvailableMusicians(1L, GIG_FROM, GIG_TO);
+        assertUsesIndex("band_members_pkey");
+    }
+
+    @Test
+    void findPendingBookings_usesPartialPendingIndex() {
+        bookingRepository.findByBookingStatusAndGigStartsBetweenOrderByGigStarts(BookingStatus.Pending, GIG_FROM, GIG_TO);
+        assertUsesIndex("idx_booking_pending_gig_starts");
+    }
+
+    // EXPLAINs the first query the repository call sent, with the parameters it was bound with.
+    private void assertUsesIndex(String index) {
+        CapturedQuery query = CapturingDataSource.firstQuery();
+        List<String> plan = jdbcTemplate.query("EXPLAIN " + query.sql(), query::bind, (rs, row) -> rs.getString(1));
+        String text = String.join("\n", plan);
+        assertTrue(text.contains(index), () -> "Expected " + index + " in plan of:\n" + query.sql() + "\n" + text);
+    }
+
+    record CapturedQuery(String sql, List<Object[]> binds) {
+
+        void bind(PreparedStatement statement) throws SQLException {
+            for(Object[] bind: binds) {
+                Method setter = (Method) bind[0];
+                try {
+                    setter.invoke(statement, (Object[]) bind[1]);
+                } catch (ReflectiveOperationException ex) {
+                    throw new SQLException("Could not replay " + setter.getName(), ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records every query sent through the pool together with the parameter setters called on
+     * its statement, so the test can EXPLAIN exactly what Hibernate generated.
+     */
+    static final class CapturingDataSource extends DelegatingDataSource {
+
+        private static final List<CapturedQuery> QUERIES = new CopyOnWriteArrayList<>();
+
+        CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        static void clear() {
+            QUERIES.clear();
+        }
+
+        static CapturedQuery firstQuery() {
+            return QUERIES.stream()
+                    .filter(q -> q.sql().trim().toLowerCase().startsWith("select"))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("The repository call sent no query"));
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+
+        private static Connection capturing(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) ->
+                    method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                            ? recording(statement, (String) args[0])
+                            : result);
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, String sql) {
+            List<Object[]> binds = new ArrayList<>();
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                String name = method.getName();
+                if(name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    binds.add(new Object[]{method, args.clone()});
+                } else if(name.equals("executeQuery") || name.equals("execute")) {
+                    QUERIES.add(new CapturedQuery(sql, List.copyOf(binds)));
+                }
+                return result;
+            });
+        }
+
+        private interface AfterCall {
+            Object apply(Method method, Object[] args, Object result) throws Throwable;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, AfterCall after) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getTargetException();
+                }
+                return after.apply(method, args, result);
+            });
+        }
+    }
+
+    @TestConfiguration
+    static class CapturingConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CapturingDataSource)
+                            ? new CapturingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+}
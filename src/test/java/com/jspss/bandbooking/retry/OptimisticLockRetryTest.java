@@ -0,0 +1,72 @@
+package com.jspss.bandbooking.retry;
+
+import com.jspss.bandbooking.exceptions.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticLockRetryTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OptimisticLockRetry retry;
+
+    @BeforeEach
+    void setUp() {
+        retry = new OptimisticLockRetry(transactionManager, 3, Duration.ZERO);
+    }
+
+    @Test
+    void execute_whenConflictClears_retriesInNewTransaction() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retry.execute("Band", 1L, () -> {
+            if(attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Band", 1L);
+            }
+            return "saved";
+        });
+
+        assertEquals("saved", result);
+        assertEquals(3, attempts.get());
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void execute_whenAttemptsUsedUp_throwsConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ConflictException.class, () -> retry.execute("Band", 1L, () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Band", 1L);
+        }));
+
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_whenOtherFailure_doesNotRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> retry.execute("Band", 1L, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+}
@@ -1,24 +1,36 @@
 package com.jspss.bandbooking.services.impl;
 
+import com.jspss.bandbooking.availability.BandAvailabilityIndex;
 import com.jspss.bandbooking.dto.requests.updates.UpdateBandRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
+import com.jspss.bandbooking.dto.responses.SuggestionDTO;
 import com.jspss.bandbooking.entities.Band;
 import com.jspss.bandbooking.entities.Instrument;
 import com.jspss.bandbooking.entities.MusicStyle;
 import com.jspss.bandbooking.entities.Musician;
 import com.jspss.bandbooking.exceptions.BadRequestException;
 import com.jspss.bandbooking.exceptions.NotFoundException;
+import com.jspss.bandbooking.pagination.CursorCodec;
 import com.jspss.bandbooking.repositories.BandRepository;
 import com.jspss.bandbooking.repositories.InstrumentRepository;
 import com.jspss.bandbooking.repositories.MusicStyleRepository;
 import com.jspss.bandbooking.repositories.MusicianRepository;
+import com.jspss.bandbooking.retry.OptimisticLockRetry;
 import com.jspss.bandbooking.services.AuditLogger;
+import com.jspss.bandbooking.typeahead.NameEntry;
+import com.jspss.bandbooking.typeahead.TypeaheadIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +56,16 @@ class BandServiceImplTest {
     @Mock
     private AuditLogger auditLogger;
 
+    @Mock
+    private BandAvailabilityIndex bandAvailabilityIndex;
+
+    @Mock
+    private TypeaheadIndex typeaheadIndex;
+
+    @Spy
+    private OptimisticLockRetry optimisticLockRetry =
+            new OptimisticLockRetry(mock(PlatformTransactionManager.class), 3, Duration.ZERO);
+
     @InjectMocks
     private BandServiceImpl bandService;
 
@@ -77,6 +99,40 @@ class BandServiceImplTest {
         assertSame(bands, result);
     }
 
+    @Test
+    void getBandPage_returnsCursor_whenMoreRowsExist() {
+        List<Band> rows = new ArrayList<>();
+        for(long id = 1; id <= 3; id++) {
+            Band band = new Band();
+            band.setId(id);
+            rows.add(band);
+        }
+        when(bandRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3))).thenReturn(rows);
+
+        CursorPageDTO<Band> page = bandService.getBandPage(null, 2);
+
+        assertEquals(2, page.items().size());
+        assertEquals(2L, CursorCodec.decodeId(page.nextCursor()));
+    }
+
+    @Test
+    void getBandPage_continuesAfterCursor_andEndsWithoutCursor() {
+        Band band = new Band();
+        band.setId(3L);
+        when(bandRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3))).thenReturn(List.of(band));
+
+        CursorPageDTO<Band> page = bandService.getBandPage(CursorCodec.encodeId(2L), 2);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getBandPage_throws_whenCursorIsInvalid() {
+        assertThrows(BadRequestException.class, () -> bandService.getBandPage("not a cursor", 2));
+        verifyNoInteractions(bandRepository);
+    }
+
     @Test
     void createBand_whenValid() {
         Band band = new Band();
@@ -119,12 +175,12 @@ class BandServiceImplTest {
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(existing));
         when(bandRepository.existsByNameIgnoreCase("new name")).thenReturn(false);
-        when(bandRepository.save(any())).thenReturn(existing);
+        when(bandRepository.saveAndFlush(any())).thenReturn(existing);
 
         Band result = bandService.updateBand(1L, request);
 
         assertEquals("New Name", result.getBandName());
-        verify(bandRepository).save(existing);
+        verify(bandRepository).saveAndFlush(existing);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -141,7 +197,7 @@ class BandServiceImplTest {
 
         assertThrows(NotFoundException.class, ()-> bandService.updateBand(1L, request));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -153,7 +209,7 @@ class BandServiceImplTest {
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(existing));
         when(bandRepository.existsByNameIgnoreCase("new name")).thenReturn(false);
-        when(bandRepository.save(any())).thenReturn(existing);
+        when(bandRepository.saveAndFlush(any())).thenReturn(existing);
 
         UpdateBandRequest request = new UpdateBandRequest(
                 "new name",
@@ -167,7 +223,7 @@ class BandServiceImplTest {
 
         assertThrows(BadRequestException.class, ()-> bandService.updateBand(1L, request));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
 
     }
@@ -198,7 +254,7 @@ class BandServiceImplTest {
     void addMusician_whenValid_addMusician() {
         Band band = new Band();
         band.setId(1L);
-        band.setBandMembers(new ArrayList<>());
+        band.setBandMembers(new HashSet<>());
 
         Musician musician = new Musician();
         musician.setId(10L);
@@ -209,7 +265,7 @@ class BandServiceImplTest {
         Band result = bandService.addMusician(1L, 10L);
 
         assertTrue(result.getBandMembers().contains(musician));
-        verify(bandRepository).save(band);
+        verify(bandRepository).saveAndFlush(band);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -220,7 +276,7 @@ class BandServiceImplTest {
         assertThrows(NotFoundException.class, ()-> bandService.addMusician(1L, 10L));
 
         verify(musicianRepository, never()).findById(any());
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -233,7 +289,7 @@ class BandServiceImplTest {
 
         assertThrows(NotFoundException.class, ()-> bandService.addMusician(1L,10L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -244,14 +300,14 @@ class BandServiceImplTest {
         Musician musician = new Musician();
         musician.setId(10L);
 
-        band.setBandMembers(new ArrayList<>(List.of(musician)));
+        band.setBandMembers(new HashSet<>(List.of(musician)));
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicianRepository.findById(10L)).thenReturn(Optional.of(musician));
 
         assertThrows(BadRequestException.class, ()-> bandService.addMusician(1L, 10L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -263,16 +319,16 @@ class BandServiceImplTest {
         Musician musician = new Musician();
         musician.setId(10L);
 
-        band.setBandMembers(new ArrayList<>(List.of(musician)));
+        band.setBandMembers(new HashSet<>(List.of(musician)));
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicianRepository.findById(10L)).thenReturn(Optional.of(musician));
-        when(bandRepository.save(any())).thenReturn(band);
+        when(bandRepository.saveAndFlush(any())).thenReturn(band);
 
         Band result = bandService.removeMusician(1L, 10L);
 
         assertFalse(result.getBandMembers().contains(musician));
-        verify(bandRepository).save(band);
+        verify(bandRepository).saveAndFlush(band);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -283,7 +339,7 @@ class BandServiceImplTest {
         assertThrows(NotFoundException.class, ()-> bandService.removeMusician(1L, 10L));
 
         verify(musicianRepository, never()).findById(any());
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -291,14 +347,14 @@ class BandServiceImplTest {
     void removeMusician_whenMusicianNotFound_throwsNotFound(){
         Band band = new Band();
         band.setId(1L);
-        band.setBandMembers(new ArrayList<>());
+        band.setBandMembers(new HashSet<>());
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicianRepository.findById(10L)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, ()-> bandService.removeMusician(1L, 10L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -306,7 +362,7 @@ class BandServiceImplTest {
     void removeMusician_whenNotInBand_throwsBadRequest(){
         Band band = new Band();
         band.setId(1L);
-        band.setBandMembers(new ArrayList<>());
+        band.setBandMembers(new HashSet<>());
 
         Musician musician = new Musician();
         musician.setId(10L);
@@ -316,7 +372,7 @@ class BandServiceImplTest {
 
         assertThrows(BadRequestException.class, ()-> bandService.removeMusician(1L, 10L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -324,20 +380,20 @@ class BandServiceImplTest {
     void addMusicStyle_whenValid_addMusicStyle() {
         Band band = new Band();
         band.setId(1L);
-        band.setMusicStyles(new ArrayList<>());
+        band.setMusicStyles(new HashSet<>());
 
         MusicStyle musicStyle = new MusicStyle();
         musicStyle.setId(20L);
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicStyleRepository.findById(20L)).thenReturn(Optional.of(musicStyle));
-        when(bandRepository.save(any())).thenReturn(band);
+        when(bandRepository.saveAndFlush(any())).thenReturn(band);
 
         Band result = bandService.addMusicStyle(1L, 20L);
 
         assertTrue(result.getMusicStyles().contains(musicStyle));
 
-        verify(bandRepository).save(band);
+        verify(bandRepository).saveAndFlush(band);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -347,7 +403,7 @@ class BandServiceImplTest {
 
         assertThrows(NotFoundException.class, ()-> bandService.addMusicStyle(1L, 20L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -355,14 +411,14 @@ class BandServiceImplTest {
     void addMusicStyle_whenMusicStyleNotFound_throwsNotFound(){
         Band band = new Band();
         band.setId(1L);
-        band.setMusicStyles(new ArrayList<>());
+        band.setMusicStyles(new HashSet<>());
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicStyleRepository.findById(20L)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, ()-> bandService.addMusicStyle(1L, 20L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -374,14 +430,14 @@ class BandServiceImplTest {
         MusicStyle musicStyle = new MusicStyle();
         musicStyle.setId(20L);
 
-        band.setMusicStyles(new ArrayList<>(List.of(musicStyle)));
+        band.setMusicStyles(new HashSet<>(List.of(musicStyle)));
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicStyleRepository.findById(20L)).thenReturn(Optional.of(musicStyle));
 
         assertThrows(BadRequestException.class, ()-> bandService.addMusicStyle(1L, 20L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -393,17 +449,17 @@ class BandServiceImplTest {
         MusicStyle musicStyle = new MusicStyle();
         musicStyle.setId(20L);
 
-        band.setMusicStyles(new ArrayList<>(List.of(musicStyle)));
+        band.setMusicStyles(new HashSet<>(List.of(musicStyle)));
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicStyleRepository.findById(20L)).thenReturn(Optional.of(musicStyle));
-        when(bandRepository.save(any())).thenReturn(band);
+        when(bandRepository.saveAndFlush(any())).thenReturn(band);
 
         Band result = bandService.removeMusicStyle(1L, 20L);
 
         assertFalse(result.getMusicStyles().contains(musicStyle));
 
-        verify(bandRepository).save(result);
+        verify(bandRepository).saveAndFlush(result);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -413,7 +469,7 @@ class BandServiceImplTest {
 
         assertThrows(NotFoundException.class, ()-> bandService.removeMusicStyle(1L, 20L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -421,14 +477,14 @@ class BandServiceImplTest {
     void removeMusicStyle_whenStyleNotFound_throwsNotFound(){
         Band band = new Band();
         band.setId(1L);
-        band.setMusicStyles(new ArrayList<>());
+        band.setMusicStyles(new HashSet<>());
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicStyleRepository.findById(20L)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, ()-> bandService.removeMusicStyle(1L, 20L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -440,14 +496,14 @@ class BandServiceImplTest {
         MusicStyle musicStyle = new MusicStyle();
         musicStyle.setId(20L);
 
-        band.setMusicStyles(new ArrayList<>());
+        band.setMusicStyles(new HashSet<>());
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(musicStyleRepository.findById(20L)).thenReturn(Optional.of(musicStyle));
 
         assertThrows(BadRequestException.class, ()-> bandService.removeMusicStyle(1L, 20L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -455,20 +511,20 @@ class BandServiceImplTest {
     void addInstrument_whenValid_AddInstrument() {
         Band band = new Band();
         band.setId(1L);
-        band.setRequiredInstruments(new ArrayList<>());
+        band.setRequiredInstruments(new HashSet<>());
 
         Instrument instrument = new Instrument();
         instrument.setId(30L);
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(instrumentRepository.findById(30L)).thenReturn(Optional.of(instrument));
-        when(bandRepository.save(any())).thenReturn(band);
+        when(bandRepository.saveAndFlush(any())).thenReturn(band);
 
         Band result = bandService.addInstrument(1L, 30L);
 
         assertTrue(result.getRequiredInstruments().contains(instrument));
 
-        verify(bandRepository).save(band);
+        verify(bandRepository).saveAndFlush(band);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -478,7 +534,7 @@ class BandServiceImplTest {
 
         assertThrows(NotFoundException.class, ()-> bandService.addInstrument(1L, 30L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -486,14 +542,14 @@ class BandServiceImplTest {
     void addInstrument_whenInstrumentNotFound_throwNotFound(){
         Band band = new Band();
         band.setId(1L);
-        band.setRequiredInstruments(new ArrayList<>());
+        band.setRequiredInstruments(new HashSet<>());
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(instrumentRepository.findById(30L)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, ()-> bandService.addInstrument(1L, 30L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -505,14 +561,14 @@ class BandServiceImplTest {
         Instrument instrument = new Instrument();
         instrument.setId(30L);
 
-        band.setRequiredInstruments(new ArrayList<>(List.of(instrument)));
+        band.setRequiredInstruments(new HashSet<>(List.of(instrument)));
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(instrumentRepository.findById(30L)).thenReturn(Optional.of(instrument));
 
         assertThrows(BadRequestException.class, ()-> bandService.addInstrument(1L, 30L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -524,17 +580,17 @@ class BandServiceImplTest {
         Instrument instrument = new Instrument();
         instrument.setId(30L);
 
-        band.setRequiredInstruments(new ArrayList<>(List.of(instrument)));
+        band.setRequiredInstruments(new HashSet<>(List.of(instrument)));
 
         when(bandRepository.findById(1L)).thenReturn(Optional.of(band));
         when(instrumentRepository.findById(30L)).thenReturn(Optional.of(instrument));
-        when(bandRepository.save(any())).thenReturn(band);
+        when(bandRepository.saveAndFlush(any())).thenReturn(band);
 
         Band result = bandService.removeInstrument(1L, 30L);
 
         assertFalse(result.getRequiredInstruments().contains(instrument));
 
-        verify(bandRepository).save(band);
+        verify(bandRepository).saveAndFlush(band);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -544,7 +600,7 @@ class BandServiceImplTest {
 
         assertThrows(NotFoundException.class, ()-> bandService.removeInstrument(1L, 30L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -558,7 +614,7 @@ class BandServiceImplTest {
 
         assertThrows(NotFoundException.class, ()-> bandService.removeInstrument(1L, 30L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -566,7 +622,7 @@ class BandServiceImplTest {
     void removeInstrument_whenInstrumentNotInBand_throwsBadRequest(){
         Band band = new Band();
         band.setId(1L);
-        band.setRequiredInstruments(new ArrayList<>());
+        band.setRequiredInstruments(new HashSet<>());
 
         Instrument instrument = new Instrument();
         instrument.setId(30L);
@@ -576,7 +632,7 @@ class BandServiceImplTest {
 
         assertThrows(BadRequestException.class, ()-> bandService.removeInstrument(1L, 30L));
 
-        verify(bandRepository, never()).save(any());
+        verify(bandRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -604,4 +660,35 @@ class BandServiceImplTest {
         verify(bandRepository, never()).save(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void suggestBands_whenIndexReady_doesNotQueryDatabase() {
+        when(typeaheadIndex.resolveLimit(5)).thenReturn(5);
+        when(typeaheadIndex.isReady()).thenReturn(true);
+        when(typeaheadIndex.suggestBands("roc", 5)).thenReturn(List.of(new NameEntry(1L, "The Rockers")));
+
+        List<SuggestionDTO> result = bandService.suggestBands("roc", 5);
+
+        assertEquals(List.of(new SuggestionDTO(1L, "The Rockers")), result);
+        verify(typeaheadIndex, never()).fallbackBands(any(), anyInt());
+    }
+
+    @Test
+    void suggestBands_whenIndexNotReady_fallsBackToDatabase() {
+        when(typeaheadIndex.resolveLimit(null)).thenReturn(10);
+        when(typeaheadIndex.isReady()).thenReturn(false);
+        when(typeaheadIndex.fallbackBands(" roc ", 10)).thenReturn(List.of(new NameEntry(1L, "The Rockers")));
+
+        List<SuggestionDTO> result = bandService.suggestBands(" roc ", null);
+
+        assertEquals(1, result.size());
+        verify(typeaheadIndex, never()).suggestBands(any(), anyInt());
+    }
+
+    @Test
+    void deleteBand_removesBandFromTypeahead() {
+        bandService.deleteBand(1L);
+
+        verify(typeaheadIndex).removeBand(1L);
+    }
+}
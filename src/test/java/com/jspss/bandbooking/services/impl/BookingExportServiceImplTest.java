@@ -0,0 +1,84 @@
+package com.jspss.bandbooking.services.impl;
+
+import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+import com.jspss.bandbooking.export.ExportFormat;
+import com.jspss.bandbooking.repositories.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingExportServiceImplTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingExportServiceImpl exportService;
+
+    private final ZonedDateTime start = ZonedDateTime.parse("2026-03-15T21:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        exportService = new BookingExportServiceImpl(bookingRepository, JsonMapper.builder().build());
+    }
+
+    @Test
+    void exportBookings_writesOneJsonLinePerBooking_andClosesStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookingRepository.streamAllSummaries()).thenReturn(Stream.of(
+                summary(1L, "David Karpinski", "DeVo"),
+                summary(2L, "Ann Lee", "The Cure")
+        ).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.exportBookings(ExportFormat.Ndjson, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"bandName\":\"DeVo\""));
+        assertTrue(lines[1].contains("\"id\":2"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportBookings_writesCsvWithHeader_andQuotesSpecialCharacters() throws Exception {
+        when(bookingRepository.streamAllSummaries()).thenReturn(Stream.of(
+                summary(1L, "Smith, \"Jr\"", "DeVo")
+        ));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportBookings(ExportFormat.Csv, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(BookingExportServiceImpl.CSV_HEADER, lines[0]);
+        assertEquals("1,5,\"Smith, \"\"Jr\"\"\",9,DeVo,Pending,2026-03-15T21:00:00Z,2026-03-15T23:00:00Z", lines[1]);
+    }
+
+    @Test
+    void exportBookings_withNoBookings_writesNothing() throws Exception {
+        when(bookingRepository.streamAllSummaries()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, exportService.exportBookings(ExportFormat.Ndjson, out));
+        assertEquals(0, out.size());
+    }
+
+    private BookingSummaryDTO summary(Long id, String clientName, String bandName) {
+        return new BookingSummaryDTO(id, 5L, clientName, 9L, bandName, BookingStatus.Pending, start, start.plusHours(2));
+    }
+}
@@ -0,0 +1,88 @@
+package com.jspss.bandbooking.services.impl;
+
+import com.jspss.bandbooking.availability.BandAvailabilityIndex;
+import com.jspss.bandbooking.entities.Booking;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+import com.jspss.bandbooking.exceptions.ConflictException;
+import com.jspss.bandbooking.services.AuditLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@link BookingServiceImpl#createBooking} against the V5 exclusion constraint on a real
+ * PostgreSQL, so the 409 mapping is checked against the error Hibernate actually raises from
+ * {@code saveAndFlush}, not a mocked one. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(BookingServiceImpl.class)
+class BookingOverlapConstraintTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static final ZonedDateTime GIG_STARTS = ZonedDateTime.parse("2026-06-01T20:00:00Z");
+
+    @MockitoBean
+    private AuditLogger auditLogger;
+
+    @MockitoBean
+    private BandAvailabilityIndex bandAvailabilityIndex;
+
+    @Autowired
+    private BookingServiceImpl bookingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("INSERT INTO band (id, band_name) VALUES (1, 'Band 1')");
+        jdbcTemplate.execute("INSERT INTO client (id, name, phone_number, email) VALUES (1, 'Client 1', '555-0100', 'client1@example.com')");
+    }
+
+    @Test
+    void createBooking_overlappingActiveBooking_throwsConflict() {
+        bookingService.createBooking(1L, 1L, GIG_STARTS, GIG_STARTS.plusHours(3), "Duluth", "MN");
+
+        assertThrows(ConflictException.class, () -> bookingService.createBooking(
+                1L, 1L, GIG_STARTS.plusHours(2), GIG_STARTS.plusHours(5), "Duluth", "MN"));
+    }
+
+    @Test
+    void createBooking_overlappingCancelledBooking_isAllowed() {
+        jdbcTemplate.update("""
+                INSERT INTO booking (id, band_id, client_id, state, city, gig_starts, gig_ends, booking_status)
+                VALUES (1000000, 1, 1, 'MN', 'Duluth', ?, ?, 'Cancelled')
+                """, GIG_STARTS.toOffsetDateTime(), GIG_STARTS.plusHours(3).toOffsetDateTime());
+
+        Booking booking = bookingService.createBooking(1L, 1L, GIG_STARTS, GIG_STARTS.plusHours(3), "Duluth", "MN");
+
+        assertNotNull(booking.getId());
+        assertEquals(BookingStatus.Pending, booking.getBookingStatus());
+    }
+
+    @Test
+    void createBooking_afterPreviousGigEnds_isAllowed() {
+        bookingService.createBooking(1L, 1L, GIG_STARTS, GIG_STARTS.plusHours(3), "Duluth", "MN");
+
+        assertDoesNotThrow(() -> bookingService.createBooking(
+                1L, 1L, GIG_STARTS.plusHours(4), GIG_STARTS.plusHours(6), "Duluth", "MN"));
+    }
+}
@@ -1,12 +1,19 @@
 package com.jspss.bandbooking.services.impl;
 
+import com.jspss.bandbooking.availability.BandAvailabilityIndex;
+import com.jspss.bandbooking.availability.BookingWindow;
+import com.jspss.bandbooking.dto.requests.AvailabilityWindow;
 import com.jspss.bandbooking.dto.requests.create.CreateBookingRequest;
+import com.jspss.bandbooking.dto.responses.CursorPageDTO;
 import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
 import com.jspss.bandbooking.entities.*;
 import com.jspss.bandbooking.entities.enums.BookingStatus;
 import com.jspss.bandbooking.exceptions.BadRequestException;
+import com.jspss.bandbooking.exceptions.ConflictException;
 import com.jspss.bandbooking.exceptions.NotFoundException;
 import com.jspss.bandbooking.mappers.BookingMapper;
+import com.jspss.bandbooking.pagination.BookingSortOrder;
+import com.jspss.bandbooking.pagination.CursorCodec;
 import com.jspss.bandbooking.repositories.BandRepository;
 import com.jspss.bandbooking.repositories.BookingRepository;
 import com.jspss.bandbooking.repositories.ClientRepository;
@@ -17,13 +24,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 
 
+import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -50,6 +62,9 @@ class BookingServiceImplTest {
     @Mock
     private  AuditLogger auditLogger;
 
+    @Mock
+    private  BandAvailabilityIndex bandAvailabilityIndex;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -95,16 +110,17 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void createBooking_whenBandNotAvailable_throwsBadRequest(){
+    void createBooking_whenOverlapConstraintViolated_throwsConflict(){
         ZonedDateTime start = ZonedDateTime.now();
         ZonedDateTime end = ZonedDateTime.now().plusHours(2);
 
         when(clientRepository.findById(10L)).thenReturn(Optional.of(new Client()));
         when(bandRepository.findById(20L)).thenReturn(Optional.of(new Band()));
-        when(bookingRepository.findConflictBookings(20L, start, end))
-                .thenReturn(List.of(new Booking()));
+        when(bookingRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("conflicting key value violates exclusion constraint", "23P01")));
 
-        assertThrows(BadRequestException.class, ()->bookingService.createBooking(
+        assertThrows(ConflictException.class, ()->bookingService.createBooking(
                 10L,
                 20L,
                 start,
@@ -114,10 +130,32 @@ class BookingServiceImplTest {
             )
         );
 
-        verify(bookingRepository, never()).save(any());
+        verify(bookingRepository, never()).findConflictBookings(any(), any(), any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
+    @Test
+    void createBooking_whenOtherConstraintViolated_rethrows(){
+        ZonedDateTime start = ZonedDateTime.now();
+        ZonedDateTime end = ZonedDateTime.now().plusHours(2);
+
+        when(clientRepository.findById(10L)).thenReturn(Optional.of(new Client()));
+        when(bandRepository.findById(20L)).thenReturn(Optional.of(new Band()));
+        when(bookingRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("null value in column", "23502")));
+
+        assertThrows(DataIntegrityViolationException.class, ()->bookingService.createBooking(
+                10L,
+                20L,
+                start,
+                end,
+                "City",
+                "State"
+            )
+        );
+    }
+
     @Test
     void createBooking_whenValid_SaveBookingAndLogs(){
         ZonedDateTime start = ZonedDateTime.now();
@@ -129,10 +167,11 @@ class BookingServiceImplTest {
         when(clientRepository.findById(10L)).thenReturn(Optional.of(client));
         when(bandRepository.findById(20L)).thenReturn(Optional.of(band));
 
-        Booking saved = new Booking();
-        saved.setId(30L);
-
-        when(bookingRepository.save(any())).thenReturn(saved);
+        when(bookingRepository.saveAndFlush(any())).thenAnswer(inv -> {
+            Booking booking = inv.getArgument(0);
+            booking.setId(30L);
+            return booking;
+        });
 
         Booking result = bookingService.createBooking(
                 10L,
@@ -144,7 +183,7 @@ class BookingServiceImplTest {
         );
 
         assertEquals(30L, result.getId());
-        verify(bookingRepository).save(any());
+        verify(bookingRepository).saveAndFlush(any());
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -199,7 +238,7 @@ class BookingServiceImplTest {
     @Test
     void assignMusicians_whenNoRequiredInstruments_throwsBadRequest(){
         Band band = new Band();
-        band.setRequiredInstruments(new ArrayList<>());
+        band.setRequiredInstruments(new HashSet<>());
 
         Booking booking = new Booking();
         booking.setId(1L);
@@ -220,8 +259,8 @@ class BookingServiceImplTest {
         musicStyle.setName("Rock");
 
         Band band = new Band();
-        band.setRequiredInstruments(List.of(guitar));
-        band.setMusicStyles(List.of(musicStyle));
+        band.setRequiredInstruments(Set.of(guitar));
+        band.setMusicStyles(Set.of(musicStyle));
 
         Booking booking = new Booking();
         booking.setId(1L);
@@ -251,8 +290,8 @@ class BookingServiceImplTest {
         rockStyle.setName("Rock");
 
         Band band = new Band();
-        band.setRequiredInstruments(List.of(guitar));
-        band.setMusicStyles(List.of(rockStyle));
+        band.setRequiredInstruments(Set.of(guitar));
+        band.setMusicStyles(Set.of(rockStyle));
 
         Booking booking = new Booking();
         booking.setId(1L);
@@ -262,8 +301,8 @@ class BookingServiceImplTest {
         booking.setGigEnds(ZonedDateTime.now().plusHours(2));
 
         Musician musician = new Musician();
-        musician.setInstruments(List.of(drums));
-        musician.setMusicStyles(List.of(rockStyle));
+        musician.setInstruments(Set.of(drums));
+        musician.setMusicStyles(Set.of(rockStyle));
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
         when(musicianRepository.findAvailableMusicians(any(), any(), any())).thenReturn(List.of(musician));
@@ -284,8 +323,8 @@ class BookingServiceImplTest {
         rockStyle.setName("Rock");
 
         Band band = new Band();
-        band.setRequiredInstruments(List.of(guitar));
-        band.setMusicStyles(List.of(rockStyle));
+        band.setRequiredInstruments(Set.of(guitar));
+        band.setMusicStyles(Set.of(rockStyle));
 
         Booking booking = new Booking();
         booking.setId(1L);
@@ -298,8 +337,8 @@ class BookingServiceImplTest {
         jazzStyle.setName("Jazz");
 
         Musician musician = new Musician();
-        musician.setInstruments(List.of(guitar));
-        musician.setMusicStyles(List.of(jazzStyle));
+        musician.setInstruments(Set.of(guitar));
+        musician.setMusicStyles(Set.of(jazzStyle));
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
         when(musicianRepository.findAvailableMusicians(any(), any(), any())).thenReturn(List.of(musician));
@@ -325,7 +364,7 @@ class BookingServiceImplTest {
         rockStyle.setName("Pop");
 
         Band band = new Band();
-        band.setMusicStyles(List.of(jazzStyle, rockStyle, popStyle));
+        band.setMusicStyles(Set.of(jazzStyle, rockStyle, popStyle));
 
         Booking booking = new Booking();
         booking.setId(1L);
@@ -335,16 +374,16 @@ class BookingServiceImplTest {
         booking.setGigEnds(ZonedDateTime.now().plusHours(2));
 
         Musician m1 = new Musician();
-        m1.setMusicStyles(List.of(jazzStyle));
-        m1.setInstruments(List.of(guitar));
+        m1.setMusicStyles(Set.of(jazzStyle));
+        m1.setInstruments(Set.of(guitar));
 
         Musician m2 = new Musician();
-        m2.setMusicStyles(List.of(jazzStyle, rockStyle));
-        m2.setInstruments(List.of(guitar));
+        m2.setMusicStyles(Set.of(jazzStyle, rockStyle));
+        m2.setInstruments(Set.of(guitar));
 
         Musician m3 = new Musician();
-        m3.setMusicStyles(List.of(jazzStyle, rockStyle, popStyle));
-        m3.setInstruments(List.of(guitar));
+        m3.setMusicStyles(Set.of(jazzStyle, rockStyle, popStyle));
+        m3.setInstruments(Set.of(guitar));
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
         when(musicianRepository.findAvailableMusicians(any(), any(), any())).thenReturn(List.of(m1, m2, m3));
@@ -373,8 +412,8 @@ class BookingServiceImplTest {
         rockStyle.setName("Jazz");
 
         Band band = new Band();
-        band.setRequiredInstruments(List.of(guitar, drums));
-        band.setMusicStyles(List.of(rockStyle, jazzStyle));
+        band.setRequiredInstruments(Set.of(guitar, drums));
+        band.setMusicStyles(Set.of(rockStyle, jazzStyle));
 
         Booking booking = new Booking();
         booking.setId(1L);
@@ -384,12 +423,12 @@ class BookingServiceImplTest {
         booking.setGigEnds(ZonedDateTime.now().plusHours(2));
 
         Musician rockGuitarist = new Musician();
-        rockGuitarist.setInstruments(List.of(guitar));
-        rockGuitarist.setMusicStyles(List.of(rockStyle));
+        rockGuitarist.setInstruments(Set.of(guitar));
+        rockGuitarist.setMusicStyles(Set.of(rockStyle));
 
         Musician jazzDrummer = new Musician();
-        jazzDrummer.setInstruments(List.of(drums));
-        jazzDrummer.setMusicStyles(List.of(jazzStyle));
+        jazzDrummer.setInstruments(Set.of(drums));
+        jazzDrummer.setMusicStyles(Set.of(jazzStyle));
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
         when(musicianRepository.findAvailableMusicians(any(), any(), any()))
@@ -433,6 +472,60 @@ class BookingServiceImplTest {
         assertFalse(result);
     }
 
+    @Test
+    void isBandAvailable_usesIndex_whenReady() {
+        ZonedDateTime start = ZonedDateTime.now();
+        ZonedDateTime end = ZonedDateTime.now().plusHours(2);
+
+        when(bandAvailabilityIndex.isReady()).thenReturn(true);
+        when(bandAvailabilityIndex.isAvailable(1L, start, end)).thenReturn(false);
+
+        boolean result = bookingService.isBandAvailable(1L, start, end);
+
+        assertFalse(result);
+        verify(bookingRepository, never()).findConflictBookings(any(), any(), any());
+    }
+
+    @Test
+    void isBandAvailable_whenConsistencyCheckDisagrees_throws() {
+        ZonedDateTime start = ZonedDateTime.now();
+        ZonedDateTime end = ZonedDateTime.now().plusHours(2);
+
+        when(bandAvailabilityIndex.isReady()).thenReturn(true);
+        when(bandAvailabilityIndex.isConsistencyCheck()).thenReturn(true);
+        when(bandAvailabilityIndex.isAvailable(1L, start, end)).thenReturn(true);
+        when(bookingRepository.findConflictBookings(1L, start, end)).thenReturn(List.of(new Booking()));
+
+        assertThrows(IllegalStateException.class, ()-> bookingService.isBandAvailable(1L, start, end));
+    }
+
+    @Test
+    void checkAvailability_buildsMatrixFromSingleQuery() {
+        ZonedDateTime start = ZonedDateTime.now();
+        AvailabilityWindow first = new AvailabilityWindow(start, start.plusHours(2));
+        AvailabilityWindow second = new AvailabilityWindow(start.plusDays(1), start.plusDays(1).plusHours(2));
+
+        when(bookingRepository.findActiveBookingWindows(any(), any(), any())).thenReturn(List.of(
+                new BookingWindow(100L, 1L, start.plusHours(1), start.plusHours(3))
+        ));
+
+        List<List<Boolean>> result = bookingService.checkAvailability(List.of(1L, 2L), List.of(first, second));
+
+        assertEquals(List.of(List.of(false, true), List.of(true, true)), result);
+        verify(bookingRepository, times(1)).findActiveBookingWindows(any(), any(), any());
+        verify(bookingRepository, never()).findConflictBookings(any(), any(), any());
+    }
+
+    @Test
+    void checkAvailability_whenInvalidWindow_throwsBadRequest() {
+        ZonedDateTime start = ZonedDateTime.now();
+        AvailabilityWindow invalid = new AvailabilityWindow(start, start.minusHours(1));
+
+        assertThrows(BadRequestException.class, ()-> bookingService.checkAvailability(List.of(1L), List.of(invalid)));
+
+        verify(bookingRepository, never()).findActiveBookingWindows(any(), any(), any());
+    }
+
     @Test
     void updateStatus_whenValid() {
         Booking booking = new Booking();
@@ -445,7 +538,7 @@ class BookingServiceImplTest {
 
         assertSame(booking, result);
         assertEquals(BookingStatus.Confirmed, result.getBookingStatus());
-        verify(bookingRepository).save(booking);
+        verify(bookingRepository).saveAndFlush(booking);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -455,7 +548,7 @@ class BookingServiceImplTest {
 
         assertThrows(NotFoundException.class, ()-> bookingService.updateStatus(1L, BookingStatus.Confirmed));
 
-        verify(bookingRepository, never()).save(any());
+        verify(bookingRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -544,77 +637,75 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void getBookingsForBand_returnsMappedSummaries() {
-        Booking booking1 = new Booking();
-        booking1.setId(10L);
+    void getBookingPage_byGigStarts_resumesFromCursorPosition() {
+        ZonedDateTime start = ZonedDateTime.parse("2026-05-01T20:00:00Z");
+        Booking first = new Booking();
+        first.setId(7L);
+        first.setGigStarts(start);
+        Booking second = new Booking();
+        second.setId(4L);
+        second.setGigStarts(start.plusDays(1));
 
-        Booking booking2 = new Booking();
-        booking2.setId(20L);
+        when(bookingRepository.findAllByOrderByGigStartsAscIdAsc(Limit.of(2))).thenReturn(List.of(first, second));
 
-        List<Booking> bookings = List.of(booking1, booking2);
+        CursorPageDTO<Booking> page = bookingService.getBookingPage(null, 1, BookingSortOrder.GigStarts);
 
-        BookingSummaryDTO dto1 = summary(10L);
-        BookingSummaryDTO dto2 = summary(20L);
+        assertEquals(List.of(first), page.items());
+        CursorCodec.TimeKey key = CursorCodec.decodeTime(page.nextCursor());
+        assertEquals(7L, key.id());
+        assertTrue(start.isEqual(key.at()));
 
-        when(bookingRepository.findByBand_Id(2L)).thenReturn(bookings);
-        when(bookingMapper.toBookingSummary(booking1)).thenReturn(dto1);
-        when(bookingMapper.toBookingSummary(booking2)).thenReturn(dto2);
+        when(bookingRepository.findPageAfterGigStarts(key.at(), 7L, Limit.of(2))).thenReturn(List.of(second));
 
-        List<BookingSummaryDTO> result = bookingService.getBookingsForBand(2L);
+        CursorPageDTO<Booking> next = bookingService.getBookingPage(page.nextCursor(), 1, BookingSortOrder.GigStarts);
 
-        assertEquals(2, result.size());
-        assertSame(dto1, result.get(0));
-        assertSame(dto2, result.get(1));
+        assertEquals(List.of(second), next.items());
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    void getBookingPage_throws_whenCursorWasIssuedForOtherSort() {
+        String idCursor = CursorCodec.encodeId(5L);
 
+        assertThrows(BadRequestException.class,
+                () -> bookingService.getBookingPage(idCursor, 10, BookingSortOrder.GigStarts));
     }
 
     @Test
-    void getBookingsForMusician_returnsMappedSummaries() {
-        Booking booking1 = new Booking();
-        booking1.setId(30L);
+    void getBookingsForBand_returnsProjectedSummaries() {
+        List<BookingSummaryDTO> summaries = List.of(summary(10L), summary(20L));
 
-        Booking booking2 = new Booking();
-        booking2.setId(40L);
+        when(bookingRepository.findSummariesByBandId(2L)).thenReturn(summaries);
 
-        List<Booking> bookings = List.of(booking1, booking2);
+        List<BookingSummaryDTO> result = bookingService.getBookingsForBand(2L);
 
-        BookingSummaryDTO dto1 = summary(30L);
-        BookingSummaryDTO dto2 = summary(40L);
+        assertEquals(2, result.size());
+        assertSame(summaries, result);
+        verifyNoInteractions(bookingMapper);
+    }
+
+    @Test
+    void getBookingsForMusician_returnsProjectedSummaries() {
+        List<BookingSummaryDTO> summaries = List.of(summary(30L), summary(40L));
 
-        when(bookingRepository.findByMusicianList_Id(5L)).thenReturn(bookings);
-        when(bookingMapper.toBookingSummary(booking1)).thenReturn(dto1);
-        when(bookingMapper.toBookingSummary(booking2)).thenReturn(dto2);
+        when(bookingRepository.findSummariesByMusicianId(5L)).thenReturn(summaries);
 
         List<BookingSummaryDTO> results = bookingService.getBookingsForMusician(5L);
 
         assertEquals(2, results.size());
-        assertSame(dto1, results.get(0));
-        assertSame(dto2, results.get(1));
+        assertSame(summaries, results);
     }
 
     @Test
     void getBookingsForClient() {
-        Booking booking1 = new Booking();
-        booking1.setId(50L);
+        List<BookingSummaryDTO> summaries = List.of(summary(50L), summary(60L));
 
-        Booking booking2 = new Booking();
-        booking2.setId(60L);
-
-        List<Booking> bookings = List.of(booking1, booking2);
-
-        BookingSummaryDTO dto1 = summary(50L);
-        BookingSummaryDTO dto2 = summary(60L);
-
-        when(bookingRepository.findByClient_Id(70L)).thenReturn(bookings);
-        when(bookingMapper.toBookingSummary(booking1)).thenReturn(dto1);
-        when(bookingMapper.toBookingSummary(booking2)).thenReturn(dto2);
+        when(bookingRepository.findSummariesByClientId(70L)).thenReturn(summaries);
 
         List<BookingSummaryDTO> results = bookingService.getBookingsForClient(70L);
 
         assertEquals(2, results.size());
-        assertSame(dto1, results.get(0));
-        assertSame(dto2, results.get(1));
-
+        assertSame(summaries, results);
     }
 
     private BookingSummaryDTO summary(Long id) {
@@ -0,0 +1,179 @@
+package com.jspss.bandbooking.services.impl;
+
+import com.jspss.bandbooking.assignment.MusicianBusyWindow;
+import com.jspss.bandbooking.dto.responses.BulkAssignmentResponseDTO;
+import com.jspss.bandbooking.entities.*;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
+import com.jspss.bandbooking.exceptions.BadRequestException;
+import com.jspss.bandbooking.repositories.BookingRepository;
+import com.jspss.bandbooking.repositories.MusicianRepository;
+import com.jspss.bandbooking.services.AuditLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkAssignmentServiceImplTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private MusicianRepository musicianRepository;
+
+    @Mock
+    private AuditLogger auditLogger;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkAssignmentServiceImpl bulkAssignmentService;
+
+    private final ZonedDateTime from = ZonedDateTime.now();
+    private final ZonedDateTime to = from.plusDays(7);
+
+    @BeforeEach
+    void setUp() {
+        bulkAssignmentService = new BulkAssignmentServiceImpl(
+                bookingRepository, musicianRepository, auditLogger, transactionManager, 1);
+    }
+
+    @Test
+    void assignPendingBookings_whenInvalidRange_throwsBadRequest() {
+        assertThrows(BadRequestException.class, ()-> bulkAssignmentService.assignPendingBookings(to, from));
+
+        verify(bookingRepository, never()).findByBookingStatusAndGigStartsBetweenOrderByGigStarts(any(), any(), any());
+    }
+
+    @Test
+    void assignPendingBookings_doesNotDoubleBookAcrossOverlappingBookings() {
+        Instrument guitar = new Instrument(1L, "Guitar");
+        MusicStyle rock = new MusicStyle();
+        rock.setId(1L);
+
+        Musician first = musician(10L, guitar, rock);
+        Musician second = musician(11L, guitar, rock);
+
+        Band band = new Band();
+        band.setId(5L);
+        band.setRequiredInstruments(Set.of(guitar));
+        band.setMusicStyles(Set.of(rock));
+        band.setBandMembers(Set.of(first, second));
+
+        Booking early = booking(100L, band, from.plusHours(1));
+        Booking overlapping = booking(101L, band, from.plusHours(2));
+
+        when(bookingRepository.findByBookingStatusAndGigStartsBetweenOrderByGigStarts(BookingStatus.Pending, from, to))
+                .thenReturn(List.of(early, overlapping));
+        when(bookingRepository.findMusicianBusyWindows(any(), any(), any())).thenReturn(List.of());
+        when(bookingRepository.findAllById(List.of(100L))).thenReturn(List.of(early));
+        when(bookingRepository.findAllById(List.of(101L))).thenReturn(List.of(overlapping));
+        when(musicianRepository.getReferenceById(10L)).thenReturn(first);
+        when(musicianRepository.getReferenceById(11L)).thenReturn(second);
+
+        BulkAssignmentResponseDTO result = bulkAssignmentService.assignPendingBookings(from, to);
+
+        assertEquals(2, result.pending());
+        assertEquals(List.of(100L, 101L), result.confirmedBookingIds());
+        assertTrue(result.failures().isEmpty());
+        assertEquals(List.of(first), early.getMusicianList());
+        assertEquals(List.of(second), overlapping.getMusicianList());
+        assertEquals(BookingStatus.Confirmed, overlapping.getBookingStatus());
+        // Once for the plan, then once per batch to recheck before writing.
+        verify(bookingRepository, times(3)).findMusicianBusyWindows(any(), any(), any());
+    }
+
+    @Test
+    void assignPendingBookings_whenMusicianBookedAfterPlanning_failsBooking() {
+        Instrument guitar = new Instrument(1L, "Guitar");
+        MusicStyle rock = new MusicStyle();
+        rock.setId(1L);
+
+        Musician guitarist = musician(10L, guitar, rock);
+
+        Band band = new Band();
+        band.setId(5L);
+        band.setRequiredInstruments(Set.of(guitar));
+        band.setMusicStyles(Set.of(rock));
+        band.setBandMembers(Set.of(guitarist));
+
+        Booking booking = booking(100L, band, from.plusHours(1));
+
+        when(bookingRepository.findByBookingStatusAndGigStartsBetweenOrderByGigStarts(BookingStatus.Pending, from, to))
+                .thenReturn(List.of(booking));
+        // Free while planning; assigned to another booking before the batch commits.
+        when(bookingRepository.findMusicianBusyWindows(any(), any(), any())).thenReturn(
+                List.of(),
+                List.of(new MusicianBusyWindow(10L, from, from.plusDays(1))));
+        when(bookingRepository.findAllById(List.of(100L))).thenReturn(List.of(booking));
+
+        BulkAssignmentResponseDTO result = bulkAssignmentService.assignPendingBookings(from, to);
+
+        assertTrue(result.confirmedBookingIds().isEmpty());
+        assertEquals("Musician 10 is no longer available.", result.failures().get(100L));
+        assertEquals(BookingStatus.Pending, booking.getBookingStatus());
+        verify(musicianRepository).lockAllById(Set.of(10L));
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void assignPendingBookings_reportsBookingsThatCannotBeStaffed() {
+        Instrument guitar = new Instrument(1L, "Guitar");
+        MusicStyle rock = new MusicStyle();
+        rock.setId(1L);
+
+        Musician guitarist = musician(10L, guitar, rock);
+
+        Band band = new Band();
+        band.setId(5L);
+        band.setRequiredInstruments(Set.of(guitar));
+        band.setMusicStyles(Set.of(rock));
+        band.setBandMembers(Set.of(guitarist));
+
+        Booking booking = booking(100L, band, from.plusHours(1));
+
+        when(bookingRepository.findByBookingStatusAndGigStartsBetweenOrderByGigStarts(BookingStatus.Pending, from, to))
+                .thenReturn(List.of(booking));
+        when(bookingRepository.findMusicianBusyWindows(any(), any(), any())).thenReturn(List.of(
+                new MusicianBusyWindow(10L, from, from.plusDays(1))
+        ));
+
+        BulkAssignmentResponseDTO result = bulkAssignmentService.assignPendingBookings(from, to);
+
+        assertEquals(1, result.pending());
+        assertTrue(result.confirmedBookingIds().isEmpty());
+        assertTrue(result.failures().containsKey(100L));
+        verify(bookingRepository, never()).save(any());
+    }
+
+    private Musician musician(Long id, Instrument instrument, MusicStyle style) {
+        Musician musician = new Musician();
+        musician.setId(id);
+        musician.setInstruments(Set.of(instrument));
+        musician.setMusicStyles(Set.of(style));
+        return musician;
+    }
+
+    private Booking booking(Long id, Band band, ZonedDateTime start) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setBand(band);
+        booking.setGigStarts(start);
+        booking.setGigEnds(start.plusHours(3));
+        booking.setBookingStatus(BookingStatus.Pending);
+        booking.setMusicianList(new ArrayList<>());
+        return booking;
+    }
+}
@@ -2,10 +2,10 @@ package com.jspss.bandbooking.services.impl;
 
 import com.jspss.bandbooking.dto.requests.updates.UpdateClientRequest;
 import com.jspss.bandbooking.dto.summaries.BookingSummaryDTO;
-import com.jspss.bandbooking.entities.Booking;
 import com.jspss.bandbooking.entities.Client;
+import com.jspss.bandbooking.entities.enums.BookingStatus;
 import com.jspss.bandbooking.exceptions.NotFoundException;
-import com.jspss.bandbooking.mappers.BookingMapper;
+import com.jspss.bandbooking.repositories.BookingRepository;
 import com.jspss.bandbooking.repositories.ClientRepository;
 import com.jspss.bandbooking.services.AuditLogger;
 import org.junit.jupiter.api.Test;
@@ -15,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -32,7 +33,7 @@ class ClientServiceImplTest {
     private AuditLogger auditLogger;
 
     @Mock
-    private BookingMapper bookingMapper;
+    private BookingRepository bookingRepository;
 
     @InjectMocks
     private ClientServiceImpl clientService;
@@ -192,24 +193,26 @@ class ClientServiceImplTest {
 
     @Test
     void getBookings_whenValid() {
-        Client client = new Client();
-        client.setId(1L);
-        client.setBookingList(List.of(new Booking(), new Booking()));
-        List<BookingSummaryDTO> clientListDTO = client.getBookingList()
-                .stream().map(bookingMapper::toBookingSummary).toList();
+        ZonedDateTime start = ZonedDateTime.parse("2026-03-15T21:00:00Z");
+        List<BookingSummaryDTO> summaries = List.of(
+                new BookingSummaryDTO(1L, 1L, "Client", 2L, "Band", BookingStatus.Pending, start, start.plusHours(2)),
+                new BookingSummaryDTO(2L, 1L, "Client", 2L, "Band", BookingStatus.Confirmed, start.plusDays(1), start.plusDays(1).plusHours(2))
+        );
 
-        when(clientRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(clientRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findSummariesByClientId(1L)).thenReturn(summaries);
 
         List<BookingSummaryDTO> results  = clientService.getBookings(1L);
 
         assertEquals(2, results.size());
-        assertEquals(clientListDTO, results);
+        assertSame(summaries, results);
     }
 
     @Test
     void getBookings_whenClientNotFound_throwsNotFound(){
-        when(clientRepository.findById(1L)).thenReturn(Optional.empty());
+        when(clientRepository.existsById(1L)).thenReturn(false);
 
         assertThrows(NotFoundException.class, ()-> clientService.getBookings(1L));
+        verifyNoInteractions(bookingRepository);
     }
 }
\ No newline at end of file
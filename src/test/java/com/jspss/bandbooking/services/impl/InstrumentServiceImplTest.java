@@ -1,5 +1,6 @@
 package com.jspss.bandbooking.services.impl;
 
+import com.jspss.bandbooking.cache.ReferenceDataCache;
 import com.jspss.bandbooking.dto.requests.updates.UpdateInstrumentRequest;
 import com.jspss.bandbooking.entities.Instrument;
 import com.jspss.bandbooking.exceptions.NotFoundException;
@@ -29,6 +30,9 @@ class InstrumentServiceImplTest {
     @Mock
     private AuditLogger auditLogger;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private InstrumentServiceImpl instrumentService;
 
@@ -182,6 +186,7 @@ class InstrumentServiceImplTest {
         assertSame("Guitar", instrument.getName());
 
         verify(instrumentRepository).save(any());
+        verify(referenceDataCache).evictInstrument(1L);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -1,5 +1,7 @@
 package com.jspss.bandbooking.services.impl;
 
+import com.jspss.bandbooking.cache.ReferenceDataCache;
+import com.jspss.bandbooking.dto.requests.updates.UpdateMusicStyleRequest;
 import com.jspss.bandbooking.entities.MusicStyle;
 import com.jspss.bandbooking.exceptions.NotFoundException;
 import com.jspss.bandbooking.repositories.MusicStyleRepository;
@@ -26,6 +28,9 @@ class MusicStyleServiceImplTest {
     @Mock
     private AuditLogger auditLogger;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private MusicStyleServiceImpl musicStyleService;
 
@@ -117,6 +122,19 @@ class MusicStyleServiceImplTest {
 
     @Test
     void updateMusicStyle() {
+        MusicStyle style = new MusicStyle();
+        style.setId(3L);
+        style.setName("Jaz");
+
+        when(musicStyleRepository.findById(3L)).thenReturn(Optional.of(style));
+        when(musicStyleRepository.save(style)).thenReturn(style);
+
+        MusicStyle result = musicStyleService.updateMusicStyle(3L, new UpdateMusicStyleRequest("Jazz"));
+
+        assertSame(style, result);
+        assertEquals("Jazz", style.getName());
+        verify(referenceDataCache).evictMusicStyle(3L);
+        verify(auditLogger).log(any(), any(), any(), any());
     }
 
     @Test
@@ -7,17 +7,24 @@ import com.jspss.bandbooking.exceptions.NotFoundException;
 import com.jspss.bandbooking.repositories.InstrumentRepository;
 import com.jspss.bandbooking.repositories.MusicStyleRepository;
 import com.jspss.bandbooking.repositories.MusicianRepository;
+import com.jspss.bandbooking.retry.OptimisticLockRetry;
 import com.jspss.bandbooking.services.AuditLogger;
+import com.jspss.bandbooking.typeahead.TypeaheadIndex;
 import org.checkerframework.checker.units.qual.A;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,6 +44,13 @@ class MusicianServiceImplTest {
     @Mock
     private AuditLogger auditLogger;
 
+    @Mock
+    private TypeaheadIndex typeaheadIndex;
+
+    @Spy
+    private OptimisticLockRetry optimisticLockRetry =
+            new OptimisticLockRetry(mock(PlatformTransactionManager.class), 3, Duration.ZERO);
+
     @InjectMocks
     private MusicianServiceImpl musicianService;
 
@@ -202,7 +216,7 @@ class MusicianServiceImplTest {
     void addInstruments() {
         Musician musician = new Musician();
         musician.setId(1L);
-        musician.setInstruments(new ArrayList<>());
+        musician.setInstruments(new HashSet<>());
 
         Instrument instrument1 = new Instrument();
         instrument1.setId(10L);
@@ -221,7 +235,7 @@ class MusicianServiceImplTest {
         assertTrue(result.getInstruments().contains(instrument2));
         assertEquals(2, result.getInstruments().size());
 
-        verify(musicianRepository).save(musician);
+        verify(musicianRepository).saveAndFlush(musician);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -235,7 +249,7 @@ class MusicianServiceImplTest {
 
         assertThrows(NotFoundException.class, () -> musicianService.addInstruments(1L, List.of(10L)));
 
-        verify(musicianRepository, never()).save(any());
+        verify(musicianRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -248,28 +262,28 @@ class MusicianServiceImplTest {
 
         assertThrows(NotFoundException.class, () -> musicianService.addInstruments(1L, List.of(10L)));
 
-        verify(musicianRepository, never()).save(any());
+        verify(musicianRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void removeInstruments_whenValid_removeAndLog() {
         Musician musician = new Musician();
         musician.setId(1L);
-        musician.setInstruments(new ArrayList<>());
+        musician.setInstruments(new HashSet<>());
 
         Instrument instrument = new Instrument();
         instrument.setId(10L);
 
-        musician.setInstruments(List.of(instrument));
+        musician.setInstruments(new HashSet<>(Set.of(instrument)));
 
         when(musicianRepository.findById(1L)).thenReturn(Optional.of(musician));
         when(instrumentRepository.findById(10L)).thenReturn(Optional.of(instrument));
-        when(musicianRepository.save(any())).thenReturn(musician);
+        when(musicianRepository.saveAndFlush(any())).thenReturn(musician);
 
         Musician result = musicianService.removeInstruments(1L, List.of(10L));
 
         assertFalse(result.getInstruments().contains(instrument));
-        verify(musicianRepository).save(musician);
+        verify(musicianRepository).saveAndFlush(musician);
         verify(auditLogger).log(any(), any(), any(), any());
 
     }
@@ -278,7 +292,7 @@ class MusicianServiceImplTest {
     void removeInstrument_whenInstrumentNotInList_badRequest() {
         Musician musician = new Musician();
         musician.setId(1L);
-        musician.setInstruments(new ArrayList<>());
+        musician.setInstruments(new HashSet<>());
 
         Instrument instrument = new Instrument();
         instrument.setId(10L);
@@ -288,7 +302,7 @@ class MusicianServiceImplTest {
 
         assertThrows(BadRequestException.class, () -> musicianService.removeInstruments(1L, List.of(10L)));
 
-        verify(musicianRepository, never()).save(any());
+        verify(musicianRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
 
     }
@@ -298,7 +312,7 @@ class MusicianServiceImplTest {
     void addMusicStyles_whenValid_addAndLog() {
         Musician musician = new Musician();
         musician.setId(1L);
-        musician.setMusicStyles(new ArrayList<>());
+        musician.setMusicStyles(new HashSet<>());
 
         MusicStyle style1 = new MusicStyle();
         style1.setId(10L);
@@ -312,12 +326,12 @@ class MusicianServiceImplTest {
 
         Musician result = musicianService.addMusicStyles(1L, List.of(10L, 20L));
 
-        assertEquals(List.of(style1, style2), result.getMusicStyles());
+        assertEquals(Set.of(style1, style2), result.getMusicStyles());
         assertEquals(2, result.getMusicStyles().size());
         assertTrue(result.getMusicStyles().contains(style1));
         assertTrue(result.getMusicStyles().contains(style2));
 
-        verify(musicianRepository).save(musician);
+        verify(musicianRepository).saveAndFlush(musician);
         verify(auditLogger).log(any(), any(), any(), any());
     }
 
@@ -331,7 +345,7 @@ class MusicianServiceImplTest {
 
         assertThrows(BadRequestException.class, () -> musicianService.addMusicStyles(1L, List.of(10L)));
 
-        verify(musicianRepository, never()).save(any());
+        verify(musicianRepository, never()).saveAndFlush(any());
         verify(auditLogger, never()).log(any(), any(), any(), any());
     }
 
@@ -343,7 +357,7 @@ class MusicianServiceImplTest {
         MusicStyle style = new MusicStyle();
         style.setId(10L);
 
-        musician.setMusicStyles(List.of(style));
+        musician.setMusicStyles(new HashSet<>(Set.of(style)));
 
         when(musicianRepository.findById(1L)).thenReturn(Optional.of(musician));
         when(musicStyleRepository.findById(10L)).thenReturn(Optional.of(style));
@@ -353,4 +367,18 @@ class MusicianServiceImplTest {
         assertFalse(result.getMusicStyles().contains(style));
         assertEquals(1, result.getMusicStyles().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createMusician_recordsMusicianInTypeahead() {
+        Musician result = musicianService.createMusician("David Karpinski");
+
+        verify(typeaheadIndex).recordMusician(result);
+    }
+
+    @Test
+    void suggestMusicians_whenPrefixBlank_returnsEmpty() {
+        assertTrue(musicianService.suggestMusicians("  ", 5).isEmpty());
+
+        verifyNoInteractions(typeaheadIndex, musicianRepository);
+    }
+}
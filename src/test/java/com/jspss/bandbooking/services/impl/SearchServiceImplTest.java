@@ -0,0 +1,53 @@
+package com.jspss.bandbooking.services.impl;
+
+import com.jspss.bandbooking.dto.responses.SearchResultDTO;
+import com.jspss.bandbooking.exceptions.BadRequestException;
+import com.jspss.bandbooking.search.SearchRepository;
+import com.jspss.bandbooking.search.SearchResultType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceImplTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    private SearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchServiceImpl(searchRepository, 20, 50);
+    }
+
+    @Test
+    void search_trimsQuery_andUsesDefaultLimit() {
+        List<SearchResultDTO> results = List.of(new SearchResultDTO(SearchResultType.Band, 1L, "DeVo", 0.8));
+        when(searchRepository.search("devo", 20)).thenReturn(results);
+
+        assertSame(results, searchService.search("  devo ", null));
+    }
+
+    @Test
+    void search_capsLimit() {
+        searchService.search("devo", 500);
+
+        verify(searchRepository).search("devo", 50);
+    }
+
+    @Test
+    void search_throws_whenQueryTooShort() {
+        assertThrows(BadRequestException.class, () -> searchService.search(" ab ", 10));
+        assertThrows(BadRequestException.class, () -> searchService.search(null, 10));
+
+        verifyNoInteractions(searchRepository);
+    }
+}
@@ -0,0 +1,102 @@
+package com.jspss.bandbooking.sql;
+
+import com.jspss.bandbooking.exceptions.SqlBudgetExceededException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the list and detail endpoints through the full filter chain under the test profile,
+ * where {@code bandbooking.sql.fail-on-exceed=true}: an endpoint that prepares more statements
+ * than its budget (an N+1 over the seeded rows) fails here with
+ * {@link SqlBudgetExceededException}. Skipped when Docker is not available.
+ */
+@SpringBootTest(properties = "bandbooking.sql.route-statement-budgets=/api/clients/{clientId}/bookings=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointSqlBudgetTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 40 bands of 5 musicians, each with styles and instruments, and 400 bookings, so a page of
+    // 50 rows touches every association a lazy load per row would hit.
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("INSERT INTO instrument (id, name) SELECT g, 'Instrument ' || g FROM generate_series(1, 10) g");
+        jdbcTemplate.execute("INSERT INTO music_style (id, name) SELECT g, 'Style ' || g FROM generate_series(1, 10) g");
+        jdbcTemplate.execute("INSERT INTO band (id, band_name) SELECT g, 'Band ' || g FROM generate_series(1, 40) g");
+        jdbcTemplate.execute("""
+                INSERT INTO client (id, name, phone_number, email)
+                SELECT g, 'Client ' || g, '555-0100', 'client' || g || '@example.com' FROM generate_series(1, 60) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO musician (id, full_name, phone_number, email, state, city)
+                SELECT g, 'Musician ' || g, '555-0100', 'musician' || g || '@example.com', 'MN', 'Duluth'
+                FROM generate_series(1, 200) g
+                """);
+        jdbcTemplate.execute("INSERT INTO band_members (band_id, musician_id) SELECT 1 + g % 40, g FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("INSERT INTO band_style (band_id, musicstyle_id) SELECT g, 1 + g % 10 FROM generate_series(1, 40) g");
+        jdbcTemplate.execute("INSERT INTO band_required_instruments (band_id, instrument_id) SELECT g, 1 + g % 10 FROM generate_series(1, 40) g");
+        jdbcTemplate.execute("INSERT INTO musician_instrument (musician_id, instrument_id) SELECT g, 1 + g % 10 FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("INSERT INTO musician_style (musician_id, style_id) SELECT g, 1 + g % 10 FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("""
+                INSERT INTO booking (id, band_id, client_id, state, city, gig_starts, gig_ends, booking_status)
+                SELECT g, 1 + g % 40, 1 + g % 60, 'MN', 'Duluth',
+                       TIMESTAMPTZ '2026-01-01 00:00:00+00' + g * INTERVAL '1 day',
+                       TIMESTAMPTZ '2026-01-01 03:00:00+00' + g * INTERVAL '1 day',
+                       CASE WHEN g % 2 = 0 THEN 'Confirmed' ELSE 'Pending' END
+                FROM generate_series(1, 400) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO booking_musicians (booking_id, musician_id)
+                SELECT g, 1 + (g % 40) + 40 * k FROM generate_series(1, 400) g, generate_series(0, 2) k
+                WHERE g % 2 = 0
+                """);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/bands", "/api/bands/1",
+            "/api/musicians", "/api/musicians/1",
+            "/api/clients", "/api/clients/1",
+            "/api/bookings", "/api/bookings/2",
+            "/api/bookings/band/1", "/api/bookings/musician/41", "/api/bookings/client/1",
+            "/api/instruments", "/api/musicstyles"
+    })
+    void endpoint_staysWithinStatementBudget(String path) throws Exception {
+        mockMvc.perform(get(path).param("limit", "50")).andExpect(status().isOk());
+    }
+
+    // The route budget of 0 set above shows the check is live under this profile.
+    @Test
+    void endpoint_overBudget_failsUnderTestProfile() {
+        assertThrows(SqlBudgetExceededException.class,
+                () -> mockMvc.perform(get("/api/clients/1/bookings")));
+    }
+}
@@ -0,0 +1,81 @@
+package com.jspss.bandbooking.sql;
+
+import com.jspss.bandbooking.exceptions.SqlBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlBudgetTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final JdbcTimingListener timing = new JdbcTimingListener();
+
+    @Test
+    void end_recordsStatementsPerRoute() {
+        SqlBudget budget = budget(false);
+        RequestSqlStats stats = budget.begin();
+        runStatements(3);
+
+        budget.end(stats, "GET", "/api/bands/{id}");
+
+        assertEquals(3, stats.getStatements());
+        assertEquals(3.0, meterRegistry.get(SqlBudget.STATEMENTS).tag("route", "/api/bands/{id}").summary().totalAmount());
+        assertEquals(1, meterRegistry.get(SqlBudget.JDBC_TIME).tag("route", "/api/bands/{id}").timer().count());
+        assertNull(RequestSqlStats.current());
+    }
+
+    @Test
+    void end_overRouteBudget_countsAndWarns() {
+        SqlBudget budget = budget(false);
+        RequestSqlStats stats = budget.begin();
+        runStatements(3);
+
+        budget.end(stats, "GET", "/api/search");
+
+        assertEquals(1.0, meterRegistry.get(SqlBudget.EXCEEDED).tag("route", "/api/search").counter().count());
+    }
+
+    @Test
+    void end_overBudgetWithFailOnExceed_throwsAndClearsStats() {
+        SqlBudget budget = budget(true);
+        RequestSqlStats stats = budget.begin();
+        runStatements(3);
+
+        assertThrows(SqlBudgetExceededException.class, () -> budget.end(stats, "GET", "/api/search/musicians"));
+        assertNull(RequestSqlStats.current());
+    }
+
+    @Test
+    void statementsOutsideRequest_areNotCounted() {
+        assertEquals("select 1", counter.inspect("select 1"));
+        timing.jdbcExecuteStatementStart();
+        timing.jdbcExecuteStatementEnd();
+
+        assertNull(RequestSqlStats.current());
+    }
+
+    @Test
+    void begin_whenDisabled_returnsNull() {
+        SqlBudget budget = new SqlBudget(meterRegistry, false, 30, "", true, Duration.ofMillis(200));
+
+        assertNull(budget.begin());
+        budget.end(null, "GET", "/api/search");
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    private SqlBudget budget(boolean failOnExceed) {
+        return new SqlBudget(meterRegistry, true, 30, "/api/search=2", failOnExceed, Duration.ofSeconds(10));
+    }
+
+    private void runStatements(int count) {
+        for(int i = 0; i < count; i++) {
+            counter.inspect("select * from band where id=?");
+            timing.jdbcExecuteStatementStart();
+            timing.jdbcExecuteStatementEnd();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.jspss.bandbooking.typeahead;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the typeahead's database fallback on a real PostgreSQL and checks it answers exactly
+ * like the warmed index over the same rows. The names include mid-word hits that sort ahead
+ * of the real matches, punctuation and underscores between words, and multi-word queries.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TypeaheadIndex.class)
+class TypeaheadFallbackQueryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static final String[] BAND_NAMES = {
+            "Abekka", "Abeki Trio", "Adekoya Band", "Beeks",
+            "Zed Ekko", "Zed Ekman", "Dekker-Ekman", "Big_Ekstra",
+            "Blue Moon", "Blue Note Quartet", "Note Blue", "Bluegrass 100%"
+    };
+
+    @Autowired
+    private TypeaheadIndex typeaheadIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        for(int i = 0; i < BAND_NAMES.length; i++) {
+            jdbcTemplate.update("INSERT INTO band (id, band_name) VALUES (?, ?)", i + 1, BAND_NAMES[i]);
+        }
+        typeaheadIndex.warmUp();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "ek, 2",
+            "ek, 10",
+            "EK, 3",
+            "ekm, 10",
+            "blue, 2",
+            "blue no, 10",
+            "no blue, 10",
+            "blue qu, 10",
+            "100, 10",
+            "'blue, mo', 10",
+            "e%k, 10",
+            "'_', 10",
+            "xyz, 10"
+    })
+    void fallbackBands_matchesWarmIndex(String query, int limit) {
+        assertEquals(typeaheadIndex.suggestBands(query, limit), typeaheadIndex.fallbackBands(query, limit));
+    }
+
+    @Test
+    void fallbackBands_skipsMidWordHitsThatSortFirst() {
+        assertEquals(
+                List.of(new NameEntry(5L, "Zed Ekko"), new NameEntry(7L, "Dekker-Ekman")),
+                typeaheadIndex.fallbackBands("ek", 2));
+    }
+}
@@ -0,0 +1,174 @@
+package com.jspss.bandbooking.typeahead;
+
+import com.jspss.bandbooking.entities.Band;
+import com.jspss.bandbooking.entities.Musician;
+import com.jspss.bandbooking.repositories.BandRepository;
+import com.jspss.bandbooking.repositories.MusicianRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TypeaheadIndexTest {
+
+    @Mock
+    private MusicianRepository musicianRepository;
+
+    @Mock
+    private BandRepository bandRepository;
+
+    private TypeaheadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TypeaheadIndex(musicianRepository, bandRepository, true, 20);
+    }
+
+    @Test
+    void warmUp_loadsNamesAndBecomesReady() {
+        when(musicianRepository.findAllNames()).thenReturn(List.of(
+                new NameEntry(1L, "David Karpinski"),
+                new NameEntry(2L, "Dave Holland")
+        ));
+        when(bandRepository.findAllNames()).thenReturn(List.of(new NameEntry(10L, "The Rockers")));
+
+        index.warmUp();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(new NameEntry(2L, "Dave Holland"), new NameEntry(1L, "David Karpinski")),
+                index.suggestMusicians("dav", 10));
+        assertEquals(List.of(new NameEntry(10L, "The Rockers")), index.suggestBands("rock", 10));
+    }
+
+    @Test
+    void warmUp_whenDisabled_staysNotReady() {
+        index = new TypeaheadIndex(musicianRepository, bandRepository, false, 20);
+
+        index.warmUp();
+
+        assertFalse(index.isReady());
+        verifyNoInteractions(musicianRepository, bandRepository);
+    }
+
+    @Test
+    void suggest_matchesAnyWordIgnoringCaseAndAccents() {
+        when(musicianRepository.findAllNames()).thenReturn(List.of(new NameEntry(1L, "Zoë Keating")));
+        index.warmUp();
+
+        assertEquals(1, index.suggestMusicians("ZOE", 10).size());
+        assertEquals(1, index.suggestMusicians("keat", 10).size());
+        assertTrue(index.suggestMusicians("ating", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_withSeveralWords_requiresEveryWord() {
+        when(musicianRepository.findAllNames()).thenReturn(List.of(
+                new NameEntry(1L, "David Karpinski"),
+                new NameEntry(2L, "David Holland")
+        ));
+        index.warmUp();
+
+        assertEquals(List.of(new NameEntry(2L, "David Holland")), index.suggestMusicians("dav hol", 10));
+    }
+
+    @Test
+    void suggest_stopsAtLimit() {
+        when(musicianRepository.findAllNames()).thenReturn(List.of(
+                new NameEntry(1L, "Anna A"),
+                new NameEntry(2L, "Anna B"),
+                new NameEntry(3L, "Anna C")
+        ));
+        index.warmUp();
+
+        assertEquals(2, index.suggestMusicians("anna", 2).size());
+    }
+
+    @Test
+    void recordBand_outsideTransaction_replacesPreviousName() {
+        index.warmUp();
+        Band band = new Band();
+        band.setId(10L);
+        band.setBandName("The Rockers");
+        index.recordBand(band);
+
+        band.setBandName("Jazz Trio");
+        index.recordBand(band);
+
+        assertTrue(index.suggestBands("rock", 10).isEmpty());
+        assertEquals(List.of(new NameEntry(10L, "Jazz Trio")), index.suggestBands("jaz", 10));
+    }
+
+    @Test
+    void removeBand_dropsEveryWordOfTheName() {
+        when(bandRepository.findAllNames()).thenReturn(List.of(new NameEntry(10L, "Blue Note Quartet")));
+        index.warmUp();
+
+        index.removeBand(10L);
+
+        assertTrue(index.suggestBands("blue", 10).isEmpty());
+        assertTrue(index.suggestBands("quar", 10).isEmpty());
+    }
+
+    @Test
+    void load_keepsChangesRecordedDuringWarmUp() {
+        Musician musician = new Musician();
+        musician.setId(1L);
+        musician.setFullName("David Karpinski");
+        index.recordMusician(musician);
+        index.removeBand(10L);
+
+        when(musicianRepository.findAllNames()).thenReturn(List.of(new NameEntry(1L, "Old Name")));
+        when(bandRepository.findAllNames()).thenReturn(List.of(new NameEntry(10L, "The Rockers")));
+        index.warmUp();
+
+        assertEquals(1, index.suggestMusicians("karp", 10).size());
+        assertTrue(index.suggestMusicians("old", 10).isEmpty());
+        assertTrue(index.suggestBands("rock", 10).isEmpty());
+    }
+
+    @Test
+    void fallback_ordersQueryResultsLikeTheIndex() {
+        List<NameEntry> names = List.of(
+                new NameEntry(1L, "Anna Ekdahl"),
+                new NameEntry(2L, "Dekker-Ekman"),
+                new NameEntry(3L, "Ekko Band")
+        );
+        when(musicianRepository.findAllNames()).thenReturn(names);
+        when(musicianRepository.findNamesMatchingWords("ek", "", 10)).thenReturn(names);
+        index.warmUp();
+
+        List<NameEntry> fromDatabase = index.fallbackMusicians("ek", 10);
+
+        assertEquals(index.suggestMusicians("ek", 10), fromDatabase);
+        assertEquals(List.of(1L, 3L, 2L), fromDatabase.stream().map(NameEntry::id).toList());
+    }
+
+    @Test
+    void fallback_passesEveryQueryWordToTheDatabase() {
+        when(bandRepository.findNamesMatchingWords("Blue", "no Qu", 5))
+                .thenReturn(List.of(new NameEntry(1L, "Blue Note Quartet")));
+
+        assertEquals(List.of(new NameEntry(1L, "Blue Note Quartet")), index.fallbackBands("Blue, no-Qu", 5));
+    }
+
+    @Test
+    void fallback_withoutWords_skipsTheDatabase() {
+        assertTrue(index.fallbackBands("%_ -", 5).isEmpty());
+
+        verifyNoInteractions(bandRepository);
+    }
+
+    @Test
+    void resolveLimit_capsAtMaxSuggestions() {
+        assertEquals(10, index.resolveLimit(null));
+        assertEquals(5, index.resolveLimit(5));
+        assertEquals(20, index.resolveLimit(500));
+    }
+}